@@ -19,4 +19,15 @@ public class Smithing {
     public static final String BASIC_SMITHING_PROCESS = "Smithing:BasicSmithingProcess";
     public static final String NOVICE_SMITHING_PROCESS = "Smithing:NoviceSmithingProcess";
     public static final String STANDARD_SMITHING_PROCESS = "Smithing:StandardSmithingProcess";
+
+    /*
+     * @param  processType the process type to check
+     *
+     * @return true if the process type is one of the smithing crafting process types
+     */
+    public static boolean isSmithingProcess(String processType) {
+        return BASIC_SMITHING_PROCESS.equals(processType)
+                || NOVICE_SMITHING_PROCESS.equals(processType)
+                || STANDARD_SMITHING_PROCESS.equals(processType);
+    }
 }
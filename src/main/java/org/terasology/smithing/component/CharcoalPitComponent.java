@@ -43,4 +43,12 @@ public class CharcoalPitComponent implements Component {
     /** Number of output slots for charcoal */
     @Replicate
     public int outputSlotCount;
+
+    /** The number of charcoal the current or last burn produces */
+    @Replicate
+    public int burnCharcoalCount;
+
+    /** True when the burn has finished but its charcoal has not been put into the output yet */
+    @Replicate
+    public boolean charcoalPending;
 }
@@ -0,0 +1,34 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.component;
+
+import com.google.common.collect.Maps;
+import org.terasology.engine.entitySystem.Component;
+import org.terasology.engine.network.Replicate;
+
+import java.util.Map;
+
+/*
+ * Bulk storage of a large charcoal pit. Fuel put into the input slots is counted here instead of being kept as items,
+ * and produced charcoal waits here until there is room for it in the output slots.
+ */
+public class CharcoalPitReservoirComponent implements Component {
+
+    /** The stored fuel, where a log is worth CharcoalPitFuels.LOG_FUEL_VALUE */
+    @Replicate
+    public long fuelValue;
+
+    /** The sum of the burn lengths of the stored fuel, each weighted by its fuel value */
+    @Replicate
+    public long weightedBurnLength;
+
+    /** The number of stored fuel items per item prefab, so the fuel can be given back as items */
+    public Map<String, Integer> fuelItems = Maps.newHashMap();
+
+    /** The number of stored fuel block items, such as logs, per block family uri */
+    public Map<String, Integer> fuelBlockItems = Maps.newHashMap();
+
+    /** The number of charcoal that did not fit into the output slots yet */
+    @Replicate
+    public int charcoalCount;
+}
@@ -0,0 +1,38 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.component;
+
+import org.terasology.engine.entitySystem.Component;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.network.Replicate;
+
+/*
+ * State of a charcoal pit or smithing station sampled by the server while smithing debugging is enabled. It is kept on
+ * a separate, non persistent entity placed where the overlay shows it, so it is never saved with the structure.
+ */
+public class SmithingDebugInfoComponent implements Component {
+
+    /** The charcoal pit or station the state belongs to */
+    @Replicate
+    public EntityRef subject = EntityRef.NULL;
+
+    /** What the structure is doing, either idle, burning, processing or queued */
+    @Replicate
+    public String state;
+
+    /** The time in milliseconds until the current burn or process finishes */
+    @Replicate
+    public long remainingTime;
+
+    /** The number of items the structure is going to produce */
+    @Replicate
+    public int pendingYield;
+
+    /** The current temperature of the structure, if it has any */
+    @Replicate
+    public float heat;
+
+    /** The server time in microseconds spent on the structure during the last sample period */
+    @Replicate
+    public long serverTimeMicros;
+}
@@ -0,0 +1,36 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.component;
+
+import com.google.common.collect.Lists;
+import org.terasology.engine.entitySystem.Component;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.network.Replicate;
+import org.terasology.reflection.MappedContainer;
+
+import java.util.List;
+
+/*
+ * Holds the smithing orders waiting to be processed by a station
+ */
+public class SmithingOrderQueueComponent implements Component {
+
+    /** The queued orders, highest priority first and in the order they were queued within the same priority */
+    @Replicate
+    public List<SmithingOrder> orders = Lists.newArrayList();
+
+    @MappedContainer
+    public static class SmithingOrder {
+        /** The id of the workstation process to run */
+        public String processId;
+
+        /** The number of times the process still has to be run */
+        public int count;
+
+        /** Orders with a higher priority are started first */
+        public int priority;
+
+        /** The character that queued the order, used as the instigator of the process */
+        public EntityRef instigator = EntityRef.NULL;
+    }
+}
@@ -0,0 +1,45 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.event;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.event.Event;
+import org.terasology.engine.network.ServerEvent;
+
+/*
+ * Event sent to the character to queue a number of runs of a process on a smithing station. A count of zero or less
+ * cancels the orders the character queued for that process.
+ */
+@ServerEvent
+public class QueueSmithingOrderRequest implements Event {
+    private EntityRef workstation;
+    private String processId;
+    private int count;
+    private int priority;
+
+    public QueueSmithingOrderRequest() {
+    }
+
+    public QueueSmithingOrderRequest(EntityRef workstation, String processId, int count, int priority) {
+        this.workstation = workstation;
+        this.processId = processId;
+        this.count = count;
+        this.priority = priority;
+    }
+
+    public EntityRef getWorkstation() {
+        return workstation;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,26 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.event;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.event.Event;
+import org.terasology.engine.network.ServerEvent;
+
+/*
+ * Event sent to the character to take the fuel stored in the reservoir of a large charcoal pit back as items
+ */
+@ServerEvent
+public class WithdrawCharcoalPitFuelRequest implements Event {
+    private EntityRef charcoalPit;
+
+    public WithdrawCharcoalPitFuelRequest() {
+    }
+
+    public WithdrawCharcoalPitFuelRequest(EntityRef charcoalPit) {
+        this.charcoalPit = charcoalPit;
+    }
+
+    public EntityRef getCharcoalPit() {
+        return charcoalPit;
+    }
+}
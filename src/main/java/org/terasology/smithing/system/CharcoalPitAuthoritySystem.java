@@ -8,26 +8,44 @@ import org.terasology.engine.core.Time;
 import org.terasology.engine.entitySystem.Component;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.event.EventPriority;
 import org.terasology.engine.entitySystem.event.ReceiveEvent;
 import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.engine.entitySystem.prefab.PrefabManager;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterMode;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.characters.CharacterComponent;
 import org.terasology.engine.logic.common.ActivateEvent;
 import org.terasology.engine.logic.delay.DelayManager;
 import org.terasology.engine.logic.delay.DelayedActionTriggeredEvent;
+import org.terasology.engine.logic.health.DoDestroyEvent;
 import org.terasology.module.inventory.components.InventoryComponent;
+import org.terasology.module.inventory.events.InventorySlotChangedEvent;
+import org.terasology.module.inventory.events.InventorySlotStackSizeChangedEvent;
 import org.terasology.module.inventory.systems.InventoryManager;
 import org.terasology.module.inventory.systems.InventoryUtils;
 import org.terasology.engine.logic.inventory.ItemComponent;
 import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.particles.components.ParticleEmitterComponent;
 import org.terasology.engine.registry.In;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.block.family.BlockFamily;
+import org.terasology.engine.world.block.items.BlockItemComponent;
+import org.terasology.engine.world.block.items.BlockItemFactory;
 import org.terasology.engine.world.block.regions.BlockRegionComponent;
+import org.terasology.drops.grammar.DropGrammarComponent;
 import org.terasology.smithing.component.CharcoalPitComponent;
+import org.terasology.smithing.component.CharcoalPitReservoirComponent;
 import org.terasology.smithing.event.OpenCharcoalPitRequest;
 import org.terasology.smithing.event.ProduceCharcoalRequest;
+import org.terasology.smithing.event.WithdrawCharcoalPitFuelRequest;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 /*
  * Controls the processes of the charcoal pit and alters the players inventory
@@ -35,6 +53,8 @@ import org.terasology.smithing.event.ProduceCharcoalRequest;
 @RegisterSystem(value = RegisterMode.AUTHORITY)
 public class CharcoalPitAuthoritySystem extends BaseComponentSystem {
     public static final String PRODUCE_CHARCOAL_ACTION_PREFIX = "Smithing:ProduceCharcoal|";
+    /** The prefab every block item is built on */
+    private static final String BLOCK_ITEM_PREFAB = "engine:blockItemBase";
     @In
     private Time time;
     @In
@@ -45,6 +65,20 @@ public class CharcoalPitAuthoritySystem extends BaseComponentSystem {
     private DelayManager delayManager;
     @In
     private InventoryManager inventoryManager;
+    @In
+    private BlockManager blockManager;
+    @In
+    private SmithingWorkBudgetSystem workBudget;
+    @In
+    private SmithingDebugSystem debug;
+
+    private BlockItemFactory blockItemFactory;
+    private boolean updatingReservoir;
+
+    @Override
+    public void initialise() {
+        blockItemFactory = new BlockItemFactory(entityManager);
+    }
 
     /*
      * Called upon when the charcoal pit is activated by a user
@@ -69,23 +103,46 @@ public class CharcoalPitAuthoritySystem extends BaseComponentSystem {
     @ReceiveEvent
     public void startBurningCharcoal(ProduceCharcoalRequest event, EntityRef entity,
                                      CharcoalPitComponent charcoalPit, InventoryComponent inventoryComponent) {
-        int logCount = CharcoalPitUtils.getLogCount(entity);
-
-        if (CharcoalPitUtils.canBurnCharcoal(logCount, entity)) {
-            // Remove logs from inventory
-            for (int i = 0; i < charcoalPit.inputSlotCount; i++) {
-                EntityRef itemInSlot = InventoryUtils.getItemAt(entity, i);
-                if (itemInSlot.exists()) {
-                    inventoryManager.removeItem(entity, entity, itemInSlot, true);
+        long sample = debug.startSample();
+        try {
+            startBurning(entity, charcoalPit);
+        } finally {
+            debug.endSample(entity, sample);
+        }
+    }
+
+    private void startBurning(EntityRef entity, CharcoalPitComponent charcoalPit) {
+        // The clients check the same conditions before showing the pit burning
+        CharcoalPitUtils.FuelLoad load = CharcoalPitUtils.getBurnableFuelLoad(entity, time.getGameTimeInMs());
+        if (load != null) {
+            // Burn the full fuel value, so fuel worth less than a whole log is not destroyed without producing anything
+            long fuelValue = load.getFuelValue();
+
+            CharcoalPitReservoirComponent reservoir = entity.getComponent(CharcoalPitReservoirComponent.class);
+            if (reservoir != null) {
+                // Empty the reservoir
+                reservoir.fuelValue = 0;
+                reservoir.weightedBurnLength = 0;
+                reservoir.fuelItems.clear();
+                reservoir.fuelBlockItems.clear();
+                entity.saveComponent(reservoir);
+            } else {
+                // Remove fuel from inventory
+                for (int i = 0; i < charcoalPit.inputSlotCount; i++) {
+                    EntityRef itemInSlot = InventoryUtils.getItemAt(entity, i);
+                    if (itemInSlot.exists()) {
+                        inventoryManager.removeItem(entity, entity, itemInSlot, true);
+                    }
                 }
             }
 
-            int charcoalCount = CharcoalPitUtils.getResultCharcoalCount(logCount, entity);
-            int burnLength = 5 * 60 * 1000;
+            int charcoalCount = CharcoalPitUtils.getResultCharcoalCountForFuel(fuelValue, charcoalPit.maximumLogCount);
+            long burnLength = load.getBurnLength();
 
             // Set burn length
             charcoalPit.burnStartWorldTime = time.getGameTimeInMs();
             charcoalPit.burnFinishWorldTime = charcoalPit.burnStartWorldTime + burnLength;
+            charcoalPit.burnCharcoalCount = charcoalCount;
             entity.saveComponent(charcoalPit);
 
             Prefab prefab = prefabManager.getPrefab("Smithing:CharcoalPitSmoke");
@@ -110,7 +167,8 @@ public class CharcoalPitAuthoritySystem extends BaseComponentSystem {
     }
 
     /*
-     * Adds the produced charcoal to the charcoal pit's inventory
+     * Marks the produced charcoal as pending on the charcoal pit and queues putting it into the charcoal pit's
+     * inventory, so that many burns finishing at once are spread over several ticks
      *
      * @param  event the event corresponding to triggering a delayed action
      * @param  entity the entity triggering the delayed action
@@ -122,28 +180,368 @@ public class CharcoalPitAuthoritySystem extends BaseComponentSystem {
                                         CharcoalPitComponent charcoalPit, InventoryComponent inventoryComponent) {
         String actionId = event.getActionId();
         if (actionId.startsWith(PRODUCE_CHARCOAL_ACTION_PREFIX)) {
+            // Saved with the charcoal pit, so the charcoal survives the server stopping before it is delivered
+            charcoalPit.burnCharcoalCount = Integer.parseInt(actionId.substring(PRODUCE_CHARCOAL_ACTION_PREFIX.length()));
+            charcoalPit.charcoalPending = true;
+            entity.saveComponent(charcoalPit);
 
-            entity.removeComponent(ParticleEmitterComponent.class);
-
-            int count = Integer.parseInt(actionId.substring(PRODUCE_CHARCOAL_ACTION_PREFIX.length()));
-            for (int i = charcoalPit.inputSlotCount; i < charcoalPit.inputSlotCount + charcoalPit.outputSlotCount; i++) {
-                EntityRef itemInSlot = InventoryUtils.getItemAt(entity, i);
-                if (!itemInSlot.exists()) {
-                    int toAdd = Math.min(count, 99);
-                    EntityRef charcoalItem = entityManager.create("Smithing:Charcoal");
-                    ItemComponent item = charcoalItem.getComponent(ItemComponent.class);
-                    item.stackCount = (byte) toAdd;
-                    charcoalItem.saveComponent(item);
-                    if (!inventoryManager.giveItem(entity, entity, charcoalItem, i)) {
-                        charcoalItem.destroy();
-                    } else {
-                        count -= toAdd;
-                    }
+            queueCharcoalDelivery(entity);
+        }
+    }
+
+    /*
+     * Queues the delivery of charcoal that was still pending when the charcoal pit was loaded
+     *
+     * @param  event the event corresponding to the charcoal pit being loaded
+     * @param  entity the charcoal pit entity
+     * @param  charcoalPit the component of the charcoal pit
+     */
+    @ReceiveEvent
+    public void charcoalPitLoaded(OnActivatedComponent event, EntityRef entity, CharcoalPitComponent charcoalPit) {
+        if (charcoalPit.charcoalPending) {
+            queueCharcoalDelivery(entity);
+        }
+    }
+
+    private void queueCharcoalDelivery(EntityRef entity) {
+        workBudget.enqueue(entity, () -> {
+            long sample = debug.startSample();
+            try {
+                finishBurning(entity);
+            } finally {
+                debug.endSample(entity, sample);
+            }
+        });
+    }
+
+    /*
+     * Stops the smoke of the charcoal pit and fills its output slots with the pending charcoal
+     *
+     * @param  entity the charcoal pit entity
+     */
+    private void finishBurning(EntityRef entity) {
+        CharcoalPitComponent charcoalPit = entity.getComponent(CharcoalPitComponent.class);
+        // Delivery may have been queued more than once, e.g. when the charcoal pit was reloaded
+        if (charcoalPit == null || !charcoalPit.charcoalPending) {
+            return;
+        }
+
+        entity.removeComponent(ParticleEmitterComponent.class);
+
+        int count = charcoalPit.burnCharcoalCount;
+        CharcoalPitReservoirComponent reservoir = entity.getComponent(CharcoalPitReservoirComponent.class);
+        if (reservoir != null) {
+            // Whatever does not fit into the output slots waits in the reservoir
+            updatingReservoir = true;
+            try {
+                reservoir.charcoalCount = addCharcoalToOutput(entity, charcoalPit, reservoir.charcoalCount + count);
+                entity.saveComponent(reservoir);
+            } finally {
+                updatingReservoir = false;
+            }
+        } else {
+            addCharcoalToOutput(entity, charcoalPit, count);
+        }
+
+        charcoalPit.charcoalPending = false;
+        entity.saveComponent(charcoalPit);
+    }
+
+    /*
+     * Moves fuel put into the input slots of a large charcoal pit into its reservoir, and refills its output slots from
+     * the reservoir when charcoal is taken out
+     *
+     * @param  event the event corresponding to a changed inventory slot
+     * @param  entity the charcoal pit entity
+     * @param  charcoalPit the component of the charcoal pit
+     * @param  reservoir the reservoir of the charcoal pit
+     */
+    @ReceiveEvent
+    public void reservoirSlotChanged(InventorySlotChangedEvent event, EntityRef entity,
+                                     CharcoalPitComponent charcoalPit, CharcoalPitReservoirComponent reservoir) {
+        updateReservoir(entity, charcoalPit, reservoir, event.getSlot());
+    }
+
+    /*
+     * Same as reservoirSlotChanged, for when only the size of a stack in a slot changed
+     *
+     * @param  event the event corresponding to a changed stack size
+     * @param  entity the charcoal pit entity
+     * @param  charcoalPit the component of the charcoal pit
+     * @param  reservoir the reservoir of the charcoal pit
+     */
+    @ReceiveEvent
+    public void reservoirStackSizeChanged(InventorySlotStackSizeChangedEvent event, EntityRef entity,
+                                          CharcoalPitComponent charcoalPit, CharcoalPitReservoirComponent reservoir) {
+        updateReservoir(entity, charcoalPit, reservoir, event.getSlot());
+    }
+
+    /*
+     * Gives the fuel stored in the reservoir of a large charcoal pit back to the character as items, for as long as
+     * they fit into the character's inventory. Only characters within interaction range of the charcoal pit can do so.
+     *
+     * @param  event the event corresponding to a request to withdraw the fuel
+     * @param  character the character withdrawing the fuel
+     */
+    @ReceiveEvent
+    public void withdrawReservoirFuel(WithdrawCharcoalPitFuelRequest event, EntityRef character) {
+        EntityRef entity = event.getCharcoalPit();
+        CharcoalPitReservoirComponent reservoir = entity.getComponent(CharcoalPitReservoirComponent.class);
+        if (reservoir == null || !isWithinReach(character, entity)) {
+            return;
+        }
+
+        withdrawFuelItems(character, entity, reservoir, reservoir.fuelBlockItems, true);
+        withdrawFuelItems(character, entity, reservoir, reservoir.fuelItems, false);
+        entity.saveComponent(reservoir);
+    }
+
+    /*
+     * Gives stored fuel items of the reservoir to the character until the character's inventory is full
+     *
+     * @param  character the character withdrawing the fuel
+     * @param  entity the charcoal pit entity
+     * @param  reservoir the reservoir of the charcoal pit
+     * @param  fuelItems the stored items to give back, keyed by block family uri or item prefab
+     * @param  blockItems whether the keys are block family uris
+     */
+    private void withdrawFuelItems(EntityRef character, EntityRef entity, CharcoalPitReservoirComponent reservoir,
+                                   Map<String, Integer> fuelItems, boolean blockItems) {
+        Iterator<Map.Entry<String, Integer>> entries = fuelItems.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Integer> entry = entries.next();
+            int remaining = entry.getValue();
+            while (remaining > 0) {
+                EntityRef fuelItem = createFuelItem(entry.getKey(), blockItems);
+                ItemComponent item = fuelItem.getComponent(ItemComponent.class);
+                int fuelIndex = CharcoalPitUtils.getFuelIndex(fuelItem);
+                if (item == null || fuelIndex < 0) {
+                    fuelItem.destroy();
+                    break;
                 }
-                if (count == 0) {
+
+                int count = Math.min(remaining, item.maxStackSize);
+                item.stackCount = (byte) count;
+                fuelItem.saveComponent(item);
+                if (!inventoryManager.giveItem(character, entity, fuelItem)) {
+                    // The character's inventory is full, the rest stays in the reservoir
+                    fuelItem.destroy();
                     break;
                 }
+
+                long fuelValue = (long) CharcoalPitFuels.getFuelValue(fuelIndex) * count;
+                reservoir.fuelValue -= fuelValue;
+                reservoir.weightedBurnLength -= fuelValue * CharcoalPitFuels.getBurnLength(fuelIndex);
+                remaining -= count;
+            }
+
+            if (remaining > 0) {
+                entry.setValue(remaining);
+            } else {
+                entries.remove();
+            }
+        }
+    }
+
+    private EntityRef createFuelItem(String itemType, boolean blockItem) {
+        if (blockItem) {
+            BlockFamily blockFamily = blockManager.getBlockFamily(itemType);
+            return blockFamily != null ? blockItemFactory.newInstance(blockFamily) : EntityRef.NULL;
+        }
+        return entityManager.create(itemType);
+    }
+
+    /*
+     * Checks that a character is close enough to a charcoal pit to interact with it
+     *
+     * @param  character the character
+     * @param  entity the charcoal pit entity
+     *
+     * @return true if the charcoal pit is within the interaction range of the character
+     */
+    private boolean isWithinReach(EntityRef character, EntityRef entity) {
+        CharacterComponent characterComponent = character.getComponent(CharacterComponent.class);
+        LocationComponent characterLocation = character.getComponent(LocationComponent.class);
+        BlockRegionComponent region = entity.getComponent(BlockRegionComponent.class);
+        if (characterComponent == null || characterLocation == null || region == null) {
+            return false;
+        }
+
+        // Measure to the closest point of the charcoal pit, not its center, as large pits are wider than the range
+        Vector3f position = characterLocation.getWorldPosition(new Vector3f());
+        Vector3f closest = new Vector3f(
+                Math.max(region.region.minX() - 0.5f, Math.min(position.x, region.region.maxX() + 0.5f)),
+                Math.max(region.region.minY() - 0.5f, Math.min(position.y, region.region.maxY() + 0.5f)),
+                Math.max(region.region.minZ() - 0.5f, Math.min(position.z, region.region.maxZ() + 0.5f)));
+        return closest.distance(position) <= characterComponent.interactionRange;
+    }
+
+    /*
+     * Adds the fuel and charcoal held in the reservoir of a large charcoal pit to the items it drops when it is
+     * destroyed, as they are not kept in its inventory slots. The drops are added to the drop grammar the pit gets when
+     * it is formed, which already replaces its default drops with the bricks it was built from.
+     *
+     * @param  event the event corresponding to the charcoal pit being destroyed
+     * @param  entity the charcoal pit entity
+     * @param  charcoalPit the component of the charcoal pit
+     * @param  reservoir the reservoir of the charcoal pit
+     */
+    @ReceiveEvent(priority = EventPriority.PRIORITY_HIGH)
+    public void dropReservoirContents(DoDestroyEvent event, EntityRef entity,
+                                      CharcoalPitComponent charcoalPit, CharcoalPitReservoirComponent reservoir) {
+        DropGrammarComponent drop = entity.getComponent(DropGrammarComponent.class);
+        if (drop == null) {
+            drop = new DropGrammarComponent();
+        }
+        // Block drops are resolved as block families and item drops as item prefabs
+        List<String> blockDrops = drop.blockDrops != null ? new ArrayList<>(drop.blockDrops) : new ArrayList<>();
+        List<String> itemDrops = drop.itemDrops != null ? new ArrayList<>(drop.itemDrops) : new ArrayList<>();
+
+        int blockStackSize = getMaxStackSize(BLOCK_ITEM_PREFAB);
+        for (Map.Entry<String, Integer> entry : reservoir.fuelBlockItems.entrySet()) {
+            addDrops(blockDrops, entry.getKey(), entry.getValue(), blockStackSize);
+        }
+        for (Map.Entry<String, Integer> entry : reservoir.fuelItems.entrySet()) {
+            addDrops(itemDrops, entry.getKey(), entry.getValue(), getMaxStackSize(entry.getKey()));
+        }
+
+        // Charcoal of a finished burn that was not delivered yet is dropped as well
+        int charcoalCount = reservoir.charcoalCount + (charcoalPit.charcoalPending ? charcoalPit.burnCharcoalCount : 0);
+        addDrops(itemDrops, CharcoalPitUtils.CHARCOAL_PREFAB, charcoalCount, getMaxStackSize(CharcoalPitUtils.CHARCOAL_PREFAB));
+
+        drop.blockDrops = blockDrops;
+        drop.itemDrops = itemDrops;
+        entity.addOrSaveComponent(drop);
+    }
+
+    /*
+     * Adds drop grammar entries for a number of items, split into stacks the item can hold
+     *
+     * @param  drops the drop grammar entries to add to
+     * @param  itemType the block family uri or item prefab to drop
+     * @param  count the number of items to drop
+     * @param  maxStackSize the maximum number of items in a single stack
+     */
+    private void addDrops(List<String> drops, String itemType, int count, int maxStackSize) {
+        while (count > 0) {
+            int stackSize = Math.min(count, maxStackSize);
+            drops.add(stackSize + "*" + itemType);
+            count -= stackSize;
+        }
+    }
+
+    private int getMaxStackSize(String prefabUri) {
+        Prefab prefab = prefabManager.getPrefab(prefabUri);
+        ItemComponent item = prefab != null ? prefab.getComponent(ItemComponent.class) : null;
+        // Dropping single items is slower but never overflows a stack
+        return item != null && item.maxStackSize > 0 ? item.maxStackSize : 1;
+    }
+
+    private void updateReservoir(EntityRef entity, CharcoalPitComponent charcoalPit, CharcoalPitReservoirComponent reservoir, int slot) {
+        // Moving items in and out of the slots below sends inventory events again
+        if (updatingReservoir) {
+            return;
+        }
+
+        long sample = debug.startSample();
+        updatingReservoir = true;
+        try {
+            if (slot < charcoalPit.inputSlotCount) {
+                storeFuel(entity, charcoalPit, reservoir, slot);
+            } else if (reservoir.charcoalCount > 0) {
+                reservoir.charcoalCount = addCharcoalToOutput(entity, charcoalPit, reservoir.charcoalCount);
+                entity.saveComponent(reservoir);
+            }
+        } finally {
+            updatingReservoir = false;
+            debug.endSample(entity, sample);
+        }
+    }
+
+    /*
+     * Moves as much of the fuel in an input slot into the reservoir as the charcoal pit can burn at once
+     *
+     * @param  entity the charcoal pit entity
+     * @param  charcoalPit the component of the charcoal pit
+     * @param  reservoir the reservoir of the charcoal pit
+     * @param  slot the input slot
+     */
+    private void storeFuel(EntityRef entity, CharcoalPitComponent charcoalPit, CharcoalPitReservoirComponent reservoir, int slot) {
+        EntityRef itemInSlot = InventoryUtils.getItemAt(entity, slot);
+        int fuelIndex = CharcoalPitUtils.getFuelIndex(itemInSlot);
+        // Only items that can be recreated are stored, block items from their block family and others from their prefab
+        BlockItemComponent blockItem = itemInSlot.getComponent(BlockItemComponent.class);
+        Prefab itemPrefab = itemInSlot.getParentPrefab();
+        if (fuelIndex < 0 || (blockItem != null ? blockItem.blockFamily == null : itemPrefab == null)) {
+            return;
+        }
+
+        int fuelValue = CharcoalPitFuels.getFuelValue(fuelIndex);
+        long freeFuelValue = (long) charcoalPit.maximumLogCount * CharcoalPitFuels.LOG_FUEL_VALUE - reservoir.fuelValue;
+        int stackCount = itemInSlot.getComponent(ItemComponent.class).stackCount;
+        int toStore = (int) Math.min(stackCount, freeFuelValue / fuelValue);
+        if (toStore <= 0) {
+            return;
+        }
+
+        inventoryManager.removeItem(entity, entity, itemInSlot, true, toStore);
+        int stored = itemInSlot.exists() ? stackCount - itemInSlot.getComponent(ItemComponent.class).stackCount : stackCount;
+
+        reservoir.fuelValue += (long) fuelValue * stored;
+        reservoir.weightedBurnLength += (long) fuelValue * stored * CharcoalPitFuels.getBurnLength(fuelIndex);
+        if (blockItem != null) {
+            reservoir.fuelBlockItems.merge(blockItem.blockFamily.getURI().toString(), stored, Integer::sum);
+        } else {
+            reservoir.fuelItems.merge(itemPrefab.getName(), stored, Integer::sum);
+        }
+        entity.saveComponent(reservoir);
+    }
+
+    /*
+     * Adds charcoal to the output slots of the charcoal pit
+     *
+     * @param  entity the charcoal pit entity
+     * @param  charcoalPit the component of the charcoal pit
+     * @param  count the number of charcoal to add
+     *
+     * @return the number of charcoal that did not fit
+     */
+    private int addCharcoalToOutput(EntityRef entity, CharcoalPitComponent charcoalPit, int count) {
+        int outputStart = charcoalPit.inputSlotCount;
+        int outputEnd = charcoalPit.inputSlotCount + charcoalPit.outputSlotCount;
+
+        // Top up the charcoal stacks already in the output first, so new items are only created for the remainder
+        for (int i = outputStart; i < outputEnd && count > 0; i++) {
+            EntityRef itemInSlot = InventoryUtils.getItemAt(entity, i);
+            if (CharcoalPitUtils.isCharcoal(itemInSlot)) {
+                int toAdd = Math.min(count, CharcoalPitUtils.getCharcoalSpace(itemInSlot));
+                if (toAdd > 0) {
+                    ItemComponent item = itemInSlot.getComponent(ItemComponent.class);
+                    int oldStackCount = item.stackCount;
+                    item.stackCount = (byte) (oldStackCount + toAdd);
+                    itemInSlot.saveComponent(item);
+                    entity.send(new InventorySlotStackSizeChangedEvent(i, oldStackCount, item.stackCount));
+                    count -= toAdd;
+                }
+            }
+        }
+
+        for (int i = outputStart; i < outputEnd && count > 0; i++) {
+            EntityRef itemInSlot = InventoryUtils.getItemAt(entity, i);
+            if (!itemInSlot.exists()) {
+                int toAdd = Math.min(count, CharcoalPitUtils.MAX_CHARCOAL_STACK);
+                EntityRef charcoalItem = entityManager.create(CharcoalPitUtils.CHARCOAL_PREFAB);
+                ItemComponent item = charcoalItem.getComponent(ItemComponent.class);
+                item.stackCount = (byte) toAdd;
+                charcoalItem.saveComponent(item);
+                if (!inventoryManager.giveItem(entity, entity, charcoalItem, i)) {
+                    charcoalItem.destroy();
+                } else {
+                    count -= toAdd;
+                }
             }
         }
+
+        return count;
     }
 }
@@ -0,0 +1,79 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Defines which crafting ingredient types can be burnt in the charcoal pit, how much they yield and how long they burn
+ */
+public final class CharcoalPitFuels {
+    /** The fuel value of a single log, the fuel values of the other fuels are relative to it */
+    public static final int LOG_FUEL_VALUE = 1000;
+
+    private static final Map<String, Integer> FUEL_INDICES = new HashMap<>();
+    private static final int[] FUEL_VALUES;
+    private static final long[] BURN_LENGTHS;
+
+    static {
+        List<Integer> fuelValues = new ArrayList<>();
+        List<Long> burnLengths = new ArrayList<>();
+
+        addFuel("WorkstationCrafting:wood", LOG_FUEL_VALUE, CharcoalPitUtils.BURN_LENGTH, fuelValues, burnLengths);
+        addFuel("WorkstationCrafting:plank", LOG_FUEL_VALUE / 4, 4 * 60 * 1000, fuelValues, burnLengths);
+        addFuel("WorkstationCrafting:stick", LOG_FUEL_VALUE / 8, 3 * 60 * 1000, fuelValues, burnLengths);
+
+        // Compile the table into arrays indexed by fuel, so the pit only does a single lookup per slot
+        FUEL_VALUES = new int[fuelValues.size()];
+        BURN_LENGTHS = new long[burnLengths.size()];
+        for (int i = 0; i < FUEL_VALUES.length; i++) {
+            FUEL_VALUES[i] = fuelValues.get(i);
+            BURN_LENGTHS[i] = burnLengths.get(i);
+        }
+    }
+
+    private CharcoalPitFuels() {
+    }
+
+    private static void addFuel(String ingredientType, int fuelValue, long burnLength, List<Integer> fuelValues, List<Long> burnLengths) {
+        FUEL_INDICES.put(ingredientType.toLowerCase(), fuelValues.size());
+        fuelValues.add(fuelValue);
+        burnLengths.add(burnLength);
+    }
+
+    /*
+    * Looks up the fuel of a crafting ingredient type
+    *
+    * @param  ingredientType the crafting ingredient type of an item
+    *
+    * @return the index of the fuel or -1 if the ingredient type can not be burnt
+    */
+    public static int getFuelIndex(String ingredientType) {
+        if (ingredientType == null) {
+            return -1;
+        }
+        Integer index = FUEL_INDICES.get(ingredientType.toLowerCase());
+        return index != null ? index : -1;
+    }
+
+    /*
+    * @param  fuelIndex the index of the fuel
+    *
+    * @return the fuel value of a single item of the fuel, where a log is worth LOG_FUEL_VALUE
+    */
+    public static int getFuelValue(int fuelIndex) {
+        return FUEL_VALUES[fuelIndex];
+    }
+
+    /*
+    * @param  fuelIndex the index of the fuel
+    *
+    * @return the time in milliseconds a pit filled only with this fuel burns
+    */
+    public static long getBurnLength(int fuelIndex) {
+        return BURN_LENGTHS[fuelIndex];
+    }
+}
@@ -16,15 +16,46 @@
 package org.terasology.smithing.system;
 
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.module.inventory.systems.InventoryUtils;
 import org.terasology.engine.logic.inventory.ItemComponent;
+import org.terasology.engine.world.block.items.BlockItemComponent;
 import org.terasology.smithing.component.CharcoalPitComponent;
+import org.terasology.smithing.component.CharcoalPitReservoirComponent;
 import org.terasology.workstationCrafting.component.CraftingStationIngredientComponent;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /*
 * Provides utilities for the logic and variables of the charcoal pit
 */
 public final class CharcoalPitUtils {
+    /** The prefab of the charcoal item produced by the charcoal pit */
+    public static final String CHARCOAL_PREFAB = "Smithing:Charcoal";
+
+    /** The time in milliseconds it takes a charcoal pit to burn its logs */
+    public static final long BURN_LENGTH = 5 * 60 * 1000;
+
+    /** The maximum number of charcoal items held in a single output slot */
+    public static final int MAX_CHARCOAL_STACK = 99;
+
+    /** Minimum number of logs per block of air inside the charcoal pit */
+    public static final int MINIMUM_LOGS_PER_AIR_BLOCK = 8;
+
+    /** Maximum number of logs per block of air inside the charcoal pit */
+    public static final int MAXIMUM_LOGS_PER_AIR_BLOCK = 16;
+
+    /** Charcoal pits with more blocks of air than this store their fuel and charcoal in a reservoir */
+    public static final int RESERVOIR_AIR_BLOCK_THRESHOLD = 9;
+
+    /** Number of input and output slots a charcoal pit with a reservoir exposes */
+    public static final int RESERVOIR_VIEW_SLOT_COUNT = 9;
+
+    /** The fuel index of each item type that has been checked, keyed by block family or item prefab, see getFuelIndex */
+    private static final Map<Object, Integer> FUEL_INDEX_BY_ITEM_TYPE = Collections.synchronizedMap(new WeakHashMap<>());
+
     private CharcoalPitUtils() {
     }
 
@@ -38,32 +69,107 @@ public final class CharcoalPitUtils {
     */
     public static int getResultCharcoalCount(int logCount, EntityRef charcoalPitEntity) {
         CharcoalPitComponent charcoalPit = charcoalPitEntity.getComponent(CharcoalPitComponent.class);
-        int min = charcoalPit.minimumLogCount;
-        int max = charcoalPit.maximumLogCount;
+        return getResultCharcoalCount(logCount, charcoalPit.maximumLogCount);
+    }
+
+    /*
+    * Calculates the number of produced charcoal without requiring a charcoal pit entity
+    *
+    * @param  logCount the number of inputted logs
+    * @param  maximumLogCount the maximum number of logs the charcoal pit accepts
+    *
+    * @return the number of charcoal
+    */
+    public static int getResultCharcoalCount(int logCount, int maximumLogCount) {
+        return Math.round(1f * logCount * logCount / maximumLogCount);
+    }
 
-        return Math.round(1f * logCount * logCount / max);
+    /*
+    * Calculates the number of charcoal produced from a fuel value, so fuel worth a fraction of a log still counts
+    *
+    * @param  fuelValue the total fuel value, where a log is worth CharcoalPitFuels.LOG_FUEL_VALUE
+    * @param  maximumLogCount the maximum number of logs the charcoal pit accepts
+    *
+    * @return the number of charcoal
+    */
+    public static int getResultCharcoalCountForFuel(long fuelValue, int maximumLogCount) {
+        double logCount = (double) fuelValue / CharcoalPitFuels.LOG_FUEL_VALUE;
+        return (int) Math.round(logCount * logCount / maximumLogCount);
     }
 
     /*
-    * Retrieves the number of logs inputted into the charcoal pit
+    * Retrieves the number of logs inputted into the charcoal pit, counting other fuels by their worth in logs
     *
     * @param  charcoalPitEntity the charcoal pit entity that contains the logs
     *
-    * @return the number of logs
+    * @return the number of logs or -1 if the charcoal pit contains something that can not be burnt
     */
     public static int getLogCount(EntityRef charcoalPitEntity) {
+        FuelLoad load = getFuelLoad(charcoalPitEntity);
+        return load != null ? load.getLogCount() : -1;
+    }
+
+    /*
+    * Sums up the fuel inputted into the charcoal pit in a single pass over its input slots
+    *
+    * @param  charcoalPitEntity the charcoal pit entity that contains the fuel
+    *
+    * @return the fuel load or null if the charcoal pit contains something that can not be burnt
+    */
+    public static FuelLoad getFuelLoad(EntityRef charcoalPitEntity) {
+        FuelLoad load = new FuelLoad();
+
+        // Large charcoal pits only burn what has been moved into their reservoir
+        CharcoalPitReservoirComponent reservoir = charcoalPitEntity.getComponent(CharcoalPitReservoirComponent.class);
+        if (reservoir != null) {
+            load.fuelValue = reservoir.fuelValue;
+            load.weightedBurnLength = reservoir.weightedBurnLength;
+            return load;
+        }
+
         CharcoalPitComponent charcoalPit = charcoalPitEntity.getComponent(CharcoalPitComponent.class);
-        int logCount = 0;
         for (int i = 0; i < charcoalPit.inputSlotCount; i++) {
             EntityRef itemInSlot = InventoryUtils.getItemAt(charcoalPitEntity, i);
-            if (itemInSlot.hasComponent(CraftingStationIngredientComponent.class)
-                    && itemInSlot.getComponent(CraftingStationIngredientComponent.class).type.equals("WorkstationCrafting:wood")) {
-                logCount += itemInSlot.getComponent(ItemComponent.class).stackCount;
-            } else if (itemInSlot.exists()) {
-                return -1;
+            if (!itemInSlot.exists()) {
+                continue;
+            }
+
+            int fuelIndex = getFuelIndex(itemInSlot);
+            if (fuelIndex < 0) {
+                return null;
             }
+            load.add(fuelIndex, itemInSlot.getComponent(ItemComponent.class).stackCount);
+        }
+        return load;
+    }
+
+    /*
+    * Looks up the fuel an item is made of
+    *
+    * @param  item the item to check
+    *
+    * @return the index of the fuel in CharcoalPitFuels or -1 if the item can not be burnt
+    */
+    public static int getFuelIndex(EntityRef item) {
+        // All block items share the same parent prefab, so they are told apart by their block family instead
+        BlockItemComponent blockItem = item.getComponent(BlockItemComponent.class);
+        Object itemType = blockItem != null ? blockItem.blockFamily : item.getParentPrefab();
+        if (itemType == null) {
+            return getIngredientFuelIndex(item);
         }
-        return logCount;
+
+        // Items of the same type share their ingredient type, so it is only resolved once per type
+        Integer fuelIndex = FUEL_INDEX_BY_ITEM_TYPE.get(itemType);
+        if (fuelIndex == null) {
+            fuelIndex = getIngredientFuelIndex(item);
+            FUEL_INDEX_BY_ITEM_TYPE.put(itemType, fuelIndex);
+        }
+        return fuelIndex;
+    }
+
+    private static int getIngredientFuelIndex(EntityRef item) {
+        CraftingStationIngredientComponent ingredient = item.getComponent(CraftingStationIngredientComponent.class);
+        return ingredient != null ? CharcoalPitFuels.getFuelIndex(ingredient.type) : -1;
     }
 
     /*
@@ -75,17 +181,157 @@ public final class CharcoalPitUtils {
     * @return true if the charcoal pit can successfully produce the the charcoal and false if otherwise
     */
     public static boolean canBurnCharcoal(int logCount, EntityRef charcoalPitEntity) {
+        return canBurnFuel((long) logCount * CharcoalPitFuels.LOG_FUEL_VALUE, charcoalPitEntity);
+    }
+
+    /*
+    * Computes if the charcoal pit is able to burn the fuel and produce charcoal
+    *
+    * @param  fuelValue the total fuel value, where a log is worth CharcoalPitFuels.LOG_FUEL_VALUE
+    * @param  charcoalPitEntity the charcoal pit entity that is being tested
+    *
+    * @return true if the charcoal pit can successfully produce the the charcoal and false if otherwise
+    */
+    public static boolean canBurnFuel(long fuelValue, EntityRef charcoalPitEntity) {
         CharcoalPitComponent charcoalPit = charcoalPitEntity.getComponent(CharcoalPitComponent.class);
 
-        int resultCharcoalCount = getResultCharcoalCount(logCount, charcoalPitEntity);
+        // Charcoal that does not fit into the output slots of a large charcoal pit waits in its reservoir
+        if (charcoalPitEntity.hasComponent(CharcoalPitReservoirComponent.class)) {
+            return canBurnFuel(fuelValue, charcoalPit.minimumLogCount, charcoalPit.maximumLogCount, Integer.MAX_VALUE);
+        }
+
         int availableCharcoalPlace = 0;
         for (int i = charcoalPit.inputSlotCount; i < charcoalPit.inputSlotCount + charcoalPit.outputSlotCount; i++) {
-            EntityRef itemInSlot = InventoryUtils.getItemAt(charcoalPitEntity, i);
-            if (!itemInSlot.exists()) {
-                availableCharcoalPlace += 99;
-            }
+            availableCharcoalPlace += getCharcoalSpace(InventoryUtils.getItemAt(charcoalPitEntity, i));
+        }
+
+        return canBurnFuel(fuelValue, charcoalPit.minimumLogCount, charcoalPit.maximumLogCount, availableCharcoalPlace);
+    }
+
+    /*
+    * Checks everything the authority checks before it starts a burn, so clients can tell in advance whether a request
+    * to burn will be accepted
+    *
+    * @param  charcoalPitEntity the charcoal pit entity that is being tested
+    * @param  gameTime the current game time in milliseconds
+    *
+    * @return the fuel load that would be burnt or null if the charcoal pit can not start burning
+    */
+    public static FuelLoad getBurnableFuelLoad(EntityRef charcoalPitEntity, long gameTime) {
+        CharcoalPitComponent charcoalPit = charcoalPitEntity.getComponent(CharcoalPitComponent.class);
+        // Still burning, or the charcoal of the previous burn has not been handed out yet
+        if (charcoalPit == null || charcoalPit.burnFinishWorldTime > gameTime || charcoalPit.charcoalPending) {
+            return null;
+        }
+
+        FuelLoad load = getFuelLoad(charcoalPitEntity);
+        return load != null && canBurnFuel(load.getFuelValue(), charcoalPitEntity) ? load : null;
+    }
+
+    /*
+    * Computes if a charcoal pit is able to burn the logs without requiring a charcoal pit entity
+    *
+    * @param  logCount the number of inputted logs
+    * @param  minimumLogCount the minimum number of logs the charcoal pit accepts
+    * @param  maximumLogCount the maximum number of logs the charcoal pit accepts
+    * @param  availableCharcoalPlace the number of charcoal items that still fit into the output slots
+    *
+    * @return true if the charcoal pit can successfully produce the the charcoal and false if otherwise
+    */
+    public static boolean canBurnCharcoal(int logCount, int minimumLogCount, int maximumLogCount, int availableCharcoalPlace) {
+        return canBurnFuel((long) logCount * CharcoalPitFuels.LOG_FUEL_VALUE, minimumLogCount, maximumLogCount, availableCharcoalPlace);
+    }
+
+    /*
+    * Computes if a charcoal pit is able to burn the fuel without requiring a charcoal pit entity
+    *
+    * @param  fuelValue the total fuel value, where a log is worth CharcoalPitFuels.LOG_FUEL_VALUE
+    * @param  minimumLogCount the minimum number of logs the charcoal pit accepts
+    * @param  maximumLogCount the maximum number of logs the charcoal pit accepts
+    * @param  availableCharcoalPlace the number of charcoal items that still fit into the output slots
+    *
+    * @return true if the charcoal pit can successfully produce the the charcoal and false if otherwise
+    */
+    public static boolean canBurnFuel(long fuelValue, int minimumLogCount, int maximumLogCount, int availableCharcoalPlace) {
+        return fuelValue >= (long) minimumLogCount * CharcoalPitFuels.LOG_FUEL_VALUE
+                && fuelValue <= (long) maximumLogCount * CharcoalPitFuels.LOG_FUEL_VALUE
+                && getResultCharcoalCountForFuel(fuelValue, maximumLogCount) <= availableCharcoalPlace;
+    }
+
+    /*
+    * Checks if an item is charcoal produced by the charcoal pit
+    *
+    * @param  item the item to check
+    *
+    * @return true if the item is charcoal
+    */
+    public static boolean isCharcoal(EntityRef item) {
+        Prefab prefab = item.getParentPrefab();
+        return prefab != null && CHARCOAL_PREFAB.equalsIgnoreCase(prefab.getName());
+    }
+
+    /*
+    * Calculates how much charcoal still fits into an output slot
+    *
+    * @param  itemInSlot the item currently in the output slot
+    *
+    * @return the number of charcoal that can be added to the slot
+    */
+    public static int getCharcoalSpace(EntityRef itemInSlot) {
+        if (!itemInSlot.exists()) {
+            return MAX_CHARCOAL_STACK;
+        }
+        if (isCharcoal(itemInSlot)) {
+            return Math.max(0, MAX_CHARCOAL_STACK - itemInSlot.getComponent(ItemComponent.class).stackCount);
+        }
+        return 0;
+    }
+
+    /*
+    * The fuel inputted into a charcoal pit
+    */
+    public static final class FuelLoad {
+        private long fuelValue;
+        private long weightedBurnLength;
+
+        /*
+        * Adds a number of fuel items to the load
+        *
+        * @param  fuelIndex the index of the fuel in CharcoalPitFuels
+        * @param  count the number of items
+        */
+        public void add(int fuelIndex, int count) {
+            long value = (long) CharcoalPitFuels.getFuelValue(fuelIndex) * count;
+            fuelValue += value;
+            weightedBurnLength += value * CharcoalPitFuels.getBurnLength(fuelIndex);
         }
 
-        return logCount >= charcoalPit.minimumLogCount && logCount <= charcoalPit.maximumLogCount && resultCharcoalCount <= availableCharcoalPlace;
+        /*
+        * @return the sum of the burn lengths of the fuel, each weighted by its fuel value
+        */
+        public long getWeightedBurnLength() {
+            return weightedBurnLength;
+        }
+
+        /*
+        * @return the total fuel value, where a log is worth CharcoalPitFuels.LOG_FUEL_VALUE
+        */
+        public long getFuelValue() {
+            return fuelValue;
+        }
+
+        /*
+        * @return the number of whole logs the fuel is worth, burning uses the full fuel value instead
+        */
+        public int getLogCount() {
+            return (int) (fuelValue / CharcoalPitFuels.LOG_FUEL_VALUE);
+        }
+
+        /*
+        * @return the time in milliseconds the fuel burns, averaged over the fuels by their fuel value
+        */
+        public long getBurnLength() {
+            return fuelValue > 0 ? weightedBurnLength / fuelValue : BURN_LENGTH;
+        }
     }
 }
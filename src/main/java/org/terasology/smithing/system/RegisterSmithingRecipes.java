@@ -6,12 +6,13 @@ import com.google.common.base.Predicate;
 import org.joml.Vector3f;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.terasology.drops.grammar.DropGrammarComponent;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
 import org.terasology.module.inventory.components.InventoryComponent;
-import org.terasology.engine.registry.CoreRegistry;
 import org.terasology.engine.registry.In;
 import org.terasology.engine.world.block.Block;
 import org.terasology.engine.world.block.BlockManager;
@@ -22,7 +23,6 @@ import org.terasology.multiBlock.Basic3DSizeFilter;
 import org.terasology.multiBlock.BlockUriEntityFilter;
 import org.terasology.multiBlock.MultiBlockCallback;
 import org.terasology.multiBlock.MultiBlockFormRecipeRegistry;
-import org.terasology.multiBlock.UniformBlockReplacementCallback;
 import org.terasology.multiBlock.recipe.LayeredMultiBlockFormItemRecipe;
 import org.terasology.multiBlock.recipe.SurroundMultiBlockFormItemRecipe;
 import org.terasology.multiBlock.recipe.UniformMultiBlockFormItemRecipe;
@@ -31,6 +31,7 @@ import org.terasology.processing.system.ToolTypeEntityFilter;
 import org.terasology.processing.system.UseOnTopFilter;
 import org.terasology.smithing.Smithing;
 import org.terasology.smithing.component.CharcoalPitComponent;
+import org.terasology.smithing.component.CharcoalPitReservoirComponent;
 import org.terasology.workstation.system.WorkstationRegistry;
 import org.terasology.workstationCrafting.system.CraftingWorkstationProcessFactory;
 
@@ -43,6 +44,8 @@ import java.util.Map;
 */
 @RegisterSystem
 public class RegisterSmithingRecipes extends BaseComponentSystem {
+    private static final Logger logger = LoggerFactory.getLogger(RegisterSmithingRecipes.class);
+
     @In
     private WorkstationRegistry workstationRegistry;
     @In
@@ -50,14 +53,32 @@ public class RegisterSmithingRecipes extends BaseComponentSystem {
     @In
     private BlockManager blockManager;
 
+    /** Blocks resolved on first use by the multi-block callbacks, keyed by block uri */
+    private final Map<String, Block> blockCache = new HashMap<>();
+
     @Override
     public void initialise() {
+        long startTime = System.nanoTime();
+
         workstationRegistry.registerProcessFactory(Smithing.BASIC_SMITHING_PROCESS, new CraftingWorkstationProcessFactory());
         workstationRegistry.registerProcessFactory(Smithing.STANDARD_SMITHING_PROCESS, new CraftingWorkstationProcessFactory());
 
         addWorkstationRecipes();
 
         addMultiblockRecipes();
+
+        logger.info("Registered smithing recipes in {} ms", (System.nanoTime() - startTime) / 1000000f);
+    }
+
+    /*
+    * Retrieves a block, resolving it through the block manager only the first time it is requested
+    *
+    * @param  uri the uri of the block
+    *
+    * @return the block
+    */
+    private Block getBlock(String uri) {
+        return blockCache.computeIfAbsent(uri, blockManager::getBlock);
     }
 
     /*
@@ -69,7 +90,7 @@ public class RegisterSmithingRecipes extends BaseComponentSystem {
                         new ToolTypeEntityFilter("hammer"), new UseOnTopFilter(),
                         new BlockUriEntityFilter(new BlockUri("CoreAssets:CobbleStone")), new Basic3DSizeFilter(2, 1, 1, 1),
                         "Smithing:BasicSmithingStation",
-                        new UniformBlockReplacementCallback<Void>(blockManager.getBlock("Smithing:BasicSmithingStation"))));
+                        new LazyUniformBlockReplacementCallback("Smithing:BasicSmithingStation")));
     }
 
     /*
@@ -90,14 +111,39 @@ public class RegisterSmithingRecipes extends BaseComponentSystem {
         multiBlockRecipeRegistry.addMultiBlockFormItemRecipe(bloomeryRecipe);
     }
 
+    /*
+    * Replaces the whole multi-block with a single block, which is only resolved once the multi-block is first formed
+    */
+    private final class LazyUniformBlockReplacementCallback implements MultiBlockCallback<Void> {
+        private final String blockUri;
+
+        private LazyUniformBlockReplacementCallback(String blockUri) {
+            this.blockUri = blockUri;
+        }
+
+        @Override
+        public Map<Vector3i, Block> getReplacementMap(BlockRegion region, Void designDetails) {
+            Block block = getBlock(blockUri);
+
+            Map<Vector3i, Block> result = new HashMap<>();
+            for (Vector3ic position : region) {
+                result.put(new Vector3i(position), block);
+            }
+            return result;
+        }
+
+        @Override
+        public void multiBlockFormed(BlockRegion region, EntityRef entity, Void designDetails) {
+        }
+    }
+
     /*
     * Creates the charcoal pit
     */
-    private static final class CharcoalPitCallback implements MultiBlockCallback<Void> {
+    private final class CharcoalPitCallback implements MultiBlockCallback<Void> {
         @Override
         public Map<Vector3i, Block> getReplacementMap(BlockRegion region, Void designDetails) {
-            BlockManager blockManager = CoreRegistry.get(BlockManager.class);
-            Block brickBlock = blockManager.getBlock("CoreAssets:Brick");
+            Block brickBlock = getBlock("CoreAssets:Brick");
 
             Vector3i min = region.getMin(new Vector3i());
             Vector3i max = region.getMax(new Vector3i());
@@ -114,7 +160,7 @@ public class RegisterSmithingRecipes extends BaseComponentSystem {
             }
 
             // Fill up the internal blocks of top layer
-            Block halfBlock = blockManager.getBlock("CoreAssets:Brick:Engine:HalfBlock");
+            Block halfBlock = getBlock("CoreAssets:Brick:Engine:HalfBlock");
             BlockRegion topLayerInternal = new BlockRegion(min).setSize(size.x, 1, size.z);
             for (Vector3ic position : topLayerInternal) {
                 result.put(new Vector3i(position), halfBlock);
@@ -122,22 +168,22 @@ public class RegisterSmithingRecipes extends BaseComponentSystem {
 
             // Top layer sides
             for (int x = min.x() + 1; x < max.x(); x++) {
-                result.put(new Vector3i(x, max.y(), min.z()), blockManager.getBlock("CoreAssets:Brick:Engine:HalfSlope.FRONT"));
-                result.put(new Vector3i(x, max.y(), max.z()), blockManager.getBlock("CoreAssets:Brick:Engine:HalfSlope.BACK"));
+                result.put(new Vector3i(x, max.y(), min.z()), getBlock("CoreAssets:Brick:Engine:HalfSlope.FRONT"));
+                result.put(new Vector3i(x, max.y(), max.z()), getBlock("CoreAssets:Brick:Engine:HalfSlope.BACK"));
             }
             for (int z = min.z() + 1; z < max.z(); z++) {
-                result.put(new Vector3i(min.x(), max.y(), z), blockManager.getBlock("CoreAssets:Brick:Engine:HalfSlope.LEFT"));
-                result.put(new Vector3i(max.x(), max.y(), z), blockManager.getBlock("CoreAssets:Brick:Engine:HalfSlope.RIGHT"));
+                result.put(new Vector3i(min.x(), max.y(), z), getBlock("CoreAssets:Brick:Engine:HalfSlope.LEFT"));
+                result.put(new Vector3i(max.x(), max.y(), z), getBlock("CoreAssets:Brick:Engine:HalfSlope.RIGHT"));
             }
 
             // Top layer corners
-            result.put(new Vector3i(min.x(), max.y(), min.z()), blockManager.getBlock("CoreAssets:Brick:Engine:HalfSlopeCorner.LEFT"));
-            result.put(new Vector3i(max.x(), max.y(), max.z()), blockManager.getBlock("CoreAssets:Brick:Engine:HalfSlopeCorner.RIGHT"));
-            result.put(new Vector3i(min.x(), max.y(), max.z()), blockManager.getBlock("CoreAssets:Brick:Engine:HalfSlopeCorner.BACK"));
-            result.put(new Vector3i(max.x(), max.y(), min.z()), blockManager.getBlock("CoreAssets:Brick:Engine:HalfSlopeCorner.FRONT"));
+            result.put(new Vector3i(min.x(), max.y(), min.z()), getBlock("CoreAssets:Brick:Engine:HalfSlopeCorner.LEFT"));
+            result.put(new Vector3i(max.x(), max.y(), max.z()), getBlock("CoreAssets:Brick:Engine:HalfSlopeCorner.RIGHT"));
+            result.put(new Vector3i(min.x(), max.y(), max.z()), getBlock("CoreAssets:Brick:Engine:HalfSlopeCorner.BACK"));
+            result.put(new Vector3i(max.x(), max.y(), min.z()), getBlock("CoreAssets:Brick:Engine:HalfSlopeCorner.FRONT"));
 
             // Chimney
-            result.put(new Vector3i((int) Math.ceil(center.x()), max.y(), (int) Math.ceil(center.z())), blockManager.getBlock("CoreAssets:Brick:StructuralResources:PillarBase"));
+            result.put(new Vector3i((int) Math.ceil(center.x()), max.y(), (int) Math.ceil(center.z())), getBlock("CoreAssets:Brick:StructuralResources:PillarBase"));
 
             return result;
         }
@@ -149,14 +195,21 @@ public class RegisterSmithingRecipes extends BaseComponentSystem {
 
             // Setup minimum and maximum log count based on size of the multi-block
             CharcoalPitComponent charcoalPit = new CharcoalPitComponent();
-            charcoalPit.minimumLogCount = 8 * airBlockCount;
-            charcoalPit.maximumLogCount = 16 * airBlockCount;
-            charcoalPit.inputSlotCount = airBlockCount;
-            charcoalPit.outputSlotCount = airBlockCount;
+            charcoalPit.minimumLogCount = CharcoalPitUtils.MINIMUM_LOGS_PER_AIR_BLOCK * airBlockCount;
+            charcoalPit.maximumLogCount = CharcoalPitUtils.MAXIMUM_LOGS_PER_AIR_BLOCK * airBlockCount;
+
+            // Large charcoal pits count their fuel and charcoal in a reservoir and only expose a few slots
+            int slotCount = airBlockCount;
+            if (airBlockCount > CharcoalPitUtils.RESERVOIR_AIR_BLOCK_THRESHOLD) {
+                slotCount = CharcoalPitUtils.RESERVOIR_VIEW_SLOT_COUNT;
+                entity.addComponent(new CharcoalPitReservoirComponent());
+            }
+            charcoalPit.inputSlotCount = slotCount;
+            charcoalPit.outputSlotCount = slotCount;
             entity.addComponent(charcoalPit);
 
             // Setup inventory size based on size of the multi-block
-            InventoryComponent inventory = new InventoryComponent(airBlockCount * 2);
+            InventoryComponent inventory = new InventoryComponent(slotCount * 2);
             inventory.privateToOwner = false;
             entity.addComponent(inventory);
 
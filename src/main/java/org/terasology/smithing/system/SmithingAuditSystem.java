@@ -0,0 +1,278 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import org.joml.Vector3f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.event.ReceiveEvent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.console.ConsoleMessageEvent;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.console.commandSystem.annotations.CommandParam;
+import org.terasology.engine.logic.console.commandSystem.annotations.Sender;
+import org.terasology.engine.logic.delay.DelayManager;
+import org.terasology.engine.logic.delay.DelayedActionTriggeredEvent;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.logic.permission.PermissionManager;
+import org.terasology.engine.particles.components.ParticleEmitterComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.smithing.component.CharcoalPitComponent;
+import org.terasology.smithing.component.SmithingOrderQueueComponent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Audits the charcoal pits and smithing stations of the world for inconsistent state and optionally repairs it. The
+ * structures are tracked as they are loaded and unloaded, and the audit walks them with a cursor in small batches over
+ * several ticks, so that it never has to collect them all at once and does not stall the server.
+ */
+@RegisterSystem(value = RegisterMode.AUTHORITY)
+public class SmithingAuditSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    private static final Logger logger = LoggerFactory.getLogger(SmithingAuditSystem.class);
+
+    /** The number of entities audited per tick */
+    private static final int BATCH_SIZE = 64;
+
+    /** How long in milliseconds a burn may be past its finish time before it is considered stuck */
+    private static final long GRACE_PERIOD = 5000;
+
+    /** The number of anomalies reported individually, the rest are only counted */
+    private static final int MAX_REPORTED_ANOMALIES = 20;
+
+    @In
+    private Time time;
+    @In
+    private DelayManager delayManager;
+    @In
+    private SmithingWorkBudgetSystem workBudget;
+
+    /** The loaded charcoal pits and stations with orders, structures unloaded during an audit leave EntityRef.NULL */
+    private final List<EntityRef> structures = new ArrayList<>();
+    /** The index of every tracked structure in the list of structures */
+    private final Map<EntityRef, Integer> structureIndices = new HashMap<>();
+
+    private EntityRef requester = EntityRef.NULL;
+    private boolean running;
+    private boolean repair;
+    /** The index of the next structure to audit */
+    private int nextIndex;
+    /** The number of structures kept so far, the audit moves them to the front of the list to drop the unloaded ones */
+    private int keptCount;
+    private int auditedCount;
+    private int anomalyCount;
+    private int repairedCount;
+
+    @Command(shortDescription = "Audits all charcoal pits and smithing stations, optionally repairing them",
+            helpText = "Reports charcoal pits that are stuck burning, still smoking or have stray completion actions, "
+                    + "and stations with orders of players that no longer exist. With repair set to true, stuck pits are completed "
+                    + "and stray actions and smoke are removed.",
+            runOnServer = true, requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String smithingAudit(@CommandParam(value = "repair", required = false) Boolean repairAnomalies,
+                                @Sender EntityRef client) {
+        if (isRunning()) {
+            return "A smithing audit is already running";
+        }
+
+        requester = client;
+        running = true;
+        repair = repairAnomalies != null && repairAnomalies;
+        nextIndex = 0;
+        keptCount = 0;
+        auditedCount = 0;
+        anomalyCount = 0;
+        repairedCount = 0;
+        return "Smithing audit started" + (repair ? " with repairs" : "");
+    }
+
+    @ReceiveEvent
+    public void charcoalPitActivated(OnActivatedComponent event, EntityRef entity, CharcoalPitComponent charcoalPit) {
+        track(entity);
+    }
+
+    @ReceiveEvent
+    public void charcoalPitDeactivated(BeforeDeactivateComponent event, EntityRef entity, CharcoalPitComponent charcoalPit) {
+        untrack(entity);
+    }
+
+    @ReceiveEvent
+    public void orderQueueActivated(OnActivatedComponent event, EntityRef entity, SmithingOrderQueueComponent queue) {
+        track(entity);
+    }
+
+    @ReceiveEvent
+    public void orderQueueDeactivated(BeforeDeactivateComponent event, EntityRef entity, SmithingOrderQueueComponent queue) {
+        untrack(entity);
+    }
+
+    @Override
+    public void update(float delta) {
+        if (!isRunning()) {
+            return;
+        }
+
+        long gameTime = time.getGameTimeInMs();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            // Structures loaded during the audit are appended, so they are audited as well
+            if (nextIndex >= structures.size()) {
+                structures.subList(keptCount, structures.size()).clear();
+                finish("Smithing audit finished");
+                return;
+            }
+
+            EntityRef entity = structures.get(nextIndex++);
+            if (entity == EntityRef.NULL) {
+                continue;
+            }
+            structures.set(keptCount, entity);
+            structureIndices.put(entity, keptCount);
+            keptCount++;
+
+            // Charcoal pits and stations are separate entities, each is audited for what it is
+            if (entity.hasComponent(CharcoalPitComponent.class)) {
+                auditCharcoalPit(entity, gameTime);
+            }
+            if (entity.hasComponent(SmithingOrderQueueComponent.class)) {
+                auditStation(entity);
+            }
+            auditedCount++;
+        }
+    }
+
+    private void track(EntityRef entity) {
+        if (!structureIndices.containsKey(entity)) {
+            structureIndices.put(entity, structures.size());
+            structures.add(entity);
+        }
+    }
+
+    private void untrack(EntityRef entity) {
+        Integer index = structureIndices.remove(entity);
+        if (index == null) {
+            return;
+        }
+        if (isRunning() && index < keptCount) {
+            // Already audited, the last audited structure fills the gap and the space behind the cursor is spare
+            keptCount--;
+            if (index < keptCount) {
+                EntityRef lastKept = structures.get(keptCount);
+                structures.set(index, lastKept);
+                structureIndices.put(lastKept, index);
+            }
+        } else if (isRunning()) {
+            // Moving entries ahead of the cursor would disturb the audit, it drops the gap when it passes it
+            structures.set(index, EntityRef.NULL);
+        } else {
+            EntityRef last = structures.remove(structures.size() - 1);
+            if (index < structures.size()) {
+                structures.set(index, last);
+                structureIndices.put(last, index);
+            }
+        }
+    }
+
+    private boolean isRunning() {
+        return running;
+    }
+
+    private void auditCharcoalPit(EntityRef entity, long gameTime) {
+        CharcoalPitComponent charcoalPit = entity.getComponent(CharcoalPitComponent.class);
+        if (charcoalPit == null) {
+            return;
+        }
+
+        String actionId = CharcoalPitAuthoritySystem.PRODUCE_CHARCOAL_ACTION_PREFIX + charcoalPit.burnCharcoalCount;
+        if (charcoalPit.charcoalPending) {
+            if (!workBudget.hasPendingWork(entity)) {
+                reportAnomaly(entity, "charcoal pending without a queued delivery");
+                if (repair) {
+                    // Completing the burn again queues the delivery of the pending charcoal
+                    entity.send(new DelayedActionTriggeredEvent(actionId));
+                    repairedCount++;
+                }
+            }
+            return;
+        }
+
+        boolean hasAction = charcoalPit.burnCharcoalCount > 0 && delayManager.hasDelayedAction(entity, actionId);
+        boolean smoking = entity.hasComponent(ParticleEmitterComponent.class);
+
+        if (charcoalPit.burnFinishWorldTime > gameTime) {
+            if (smoking && !hasAction && charcoalPit.burnCharcoalCount > 0) {
+                reportAnomaly(entity, "burning without a completion action");
+                if (repair) {
+                    delayManager.addDelayedAction(entity, actionId, charcoalPit.burnFinishWorldTime - gameTime);
+                    repairedCount++;
+                }
+            }
+        } else if (charcoalPit.burnFinishWorldTime + GRACE_PERIOD < gameTime) {
+            if (hasAction) {
+                reportAnomaly(entity, smoking ? "burn overdue" : "stray completion action");
+                if (repair) {
+                    delayManager.cancelDelayedAction(entity, actionId);
+                    if (smoking) {
+                        entity.send(new DelayedActionTriggeredEvent(actionId));
+                    }
+                    repairedCount++;
+                }
+            } else if (smoking) {
+                reportAnomaly(entity, "still smoking after the burn finished");
+                if (repair) {
+                    // The smoke is only removed once the charcoal is handed out, so the burn never completed
+                    if (charcoalPit.burnCharcoalCount > 0) {
+                        entity.send(new DelayedActionTriggeredEvent(actionId));
+                    } else {
+                        entity.removeComponent(ParticleEmitterComponent.class);
+                    }
+                    repairedCount++;
+                }
+            }
+        }
+    }
+
+    private void auditStation(EntityRef entity) {
+        SmithingOrderQueueComponent queue = entity.getComponent(SmithingOrderQueueComponent.class);
+        if (queue == null) {
+            return;
+        }
+
+        for (SmithingOrderQueueComponent.SmithingOrder order : queue.orders) {
+            if (!order.instigator.exists()) {
+                // The player may only be offline, so these orders are reported but never removed
+                reportAnomaly(entity, "order for " + order.processId + " queued by a character that no longer exists");
+            }
+        }
+    }
+
+    private void reportAnomaly(EntityRef entity, String description) {
+        anomalyCount++;
+        if (anomalyCount <= MAX_REPORTED_ANOMALIES) {
+            LocationComponent location = entity.getComponent(LocationComponent.class);
+            Vector3f position = location != null ? location.getWorldPosition(new Vector3f()) : new Vector3f();
+            sendMessage(String.format("Smithing audit: %s at (%.0f, %.0f, %.0f)", description, position.x, position.y, position.z));
+        }
+    }
+
+    private void finish(String message) {
+        sendMessage(String.format("%s: %d structures audited, %d anomalies found, %d repaired", message, auditedCount, anomalyCount, repairedCount));
+        running = false;
+        requester = EntityRef.NULL;
+    }
+
+    private void sendMessage(String message) {
+        logger.info(message);
+        if (requester.exists()) {
+            requester.send(new ConsoleMessageEvent(message));
+        }
+    }
+}
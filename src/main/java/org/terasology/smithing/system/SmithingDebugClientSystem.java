@@ -0,0 +1,111 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import org.joml.Vector3f;
+import org.terasology.engine.entitySystem.entity.EntityBuilder;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.event.ReceiveEvent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.rendering.logic.FloatingTextComponent;
+import org.terasology.nui.Color;
+import org.terasology.smithing.component.SmithingDebugInfoComponent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Shows the state published by the server above each charcoal pit and smithing station while smithing debugging is
+ * enabled
+ */
+@RegisterSystem(value = RegisterMode.CLIENT)
+public class SmithingDebugClientSystem extends BaseComponentSystem {
+    @In
+    private EntityManager entityManager;
+
+    /** The floating text entities of the overlay, keyed by the entity holding the state they show */
+    private final Map<EntityRef, EntityRef> labels = new HashMap<>();
+    private boolean overlayVisible = true;
+
+    @ReceiveEvent
+    public void debugInfoActivated(OnActivatedComponent event, EntityRef entity, SmithingDebugInfoComponent info) {
+        updateLabel(entity, info);
+    }
+
+    @ReceiveEvent
+    public void debugInfoChanged(OnChangedComponent event, EntityRef entity, SmithingDebugInfoComponent info) {
+        updateLabel(entity, info);
+    }
+
+    @ReceiveEvent
+    public void debugInfoRemoved(BeforeDeactivateComponent event, EntityRef entity, SmithingDebugInfoComponent info) {
+        EntityRef label = labels.remove(entity);
+        if (label != null) {
+            label.destroy();
+        }
+    }
+
+    @Command(shortDescription = "Shows or hides the smithing debug overlay on this client")
+    public String smithingOverlay() {
+        overlayVisible = !overlayVisible;
+        for (EntityRef entity : entityManager.getEntitiesWith(SmithingDebugInfoComponent.class)) {
+            updateLabel(entity, entity.getComponent(SmithingDebugInfoComponent.class));
+        }
+        return "Smithing overlay " + (overlayVisible ? "shown" : "hidden");
+    }
+
+    private void updateLabel(EntityRef entity, SmithingDebugInfoComponent info) {
+        EntityRef label = labels.get(entity);
+        if (!overlayVisible) {
+            if (label != null) {
+                labels.remove(entity).destroy();
+            }
+            return;
+        }
+
+        // The server places the entity holding the state where the label belongs
+        LocationComponent infoLocation = entity.getComponent(LocationComponent.class);
+        if (infoLocation == null) {
+            return;
+        }
+        Vector3f position = infoLocation.getWorldPosition(new Vector3f());
+
+        String text = String.format("%s %ds | yield %d | %.0f C | %d us/s", info.state, info.remainingTime / 1000,
+                info.pendingYield, info.heat, info.serverTimeMicros);
+
+        if (label == null) {
+            FloatingTextComponent floatingText = new FloatingTextComponent();
+            floatingText.text = text;
+            floatingText.textColor = Color.YELLOW;
+            floatingText.textShadowColor = Color.BLACK;
+            floatingText.scale = 0.5f;
+
+            LocationComponent location = new LocationComponent();
+            location.setWorldPosition(position);
+
+            // Labels only exist for this session, they must never end up in the save game
+            EntityBuilder builder = entityManager.newBuilder();
+            builder.setPersistent(false);
+            builder.addComponent(floatingText);
+            builder.addComponent(location);
+            labels.put(entity, builder.build());
+        } else {
+            FloatingTextComponent floatingText = label.getComponent(FloatingTextComponent.class);
+            floatingText.text = text;
+            label.saveComponent(floatingText);
+
+            LocationComponent location = label.getComponent(LocationComponent.class);
+            location.setWorldPosition(position);
+            label.saveComponent(location);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import org.joml.Vector3f;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityBuilder;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.logic.permission.PermissionManager;
+import org.terasology.engine.network.ClientComponent;
+import org.terasology.engine.network.NetworkComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.BlockEntityRegistry;
+import org.terasology.engine.world.block.regions.BlockRegionComponent;
+import org.terasology.heat.HeatUtils;
+import org.terasology.heat.component.HeatProducerComponent;
+import org.terasology.smithing.Smithing;
+import org.terasology.smithing.component.CharcoalPitComponent;
+import org.terasology.smithing.component.SmithingDebugInfoComponent;
+import org.terasology.smithing.component.SmithingOrderQueueComponent;
+import org.terasology.workstation.component.WorkstationComponent;
+import org.terasology.workstation.component.WorkstationProcessingComponent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Measures the server time spent on charcoal pits and smithing stations while smithing debugging is enabled, and
+ * periodically publishes it together with their state for the client overlay, for the structures near a player
+ */
+@RegisterSystem(value = RegisterMode.AUTHORITY)
+@Share(SmithingDebugSystem.class)
+public class SmithingDebugSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    /** How often in milliseconds the state of the structures is published */
+    private static final long SAMPLE_PERIOD = 1000;
+
+    /** Only structures within this many blocks of a player's character are published */
+    private static final float VIEW_DISTANCE = 64;
+
+    @In
+    private Time time;
+    @In
+    private EntityManager entityManager;
+    @In
+    private BlockEntityRegistry blockEntityRegistry;
+
+    private final Map<EntityRef, Long> timeSpent = new HashMap<>();
+    /** The non persistent entities holding the published state, keyed by the structure they describe */
+    private final Map<EntityRef, EntityRef> debugInfoEntities = new HashMap<>();
+    private boolean enabled;
+    private long lastSample;
+
+    /*
+     * Starts measuring work done for a structure
+     *
+     * @return the start of the measurement, to be passed to endSample
+     */
+    public long startSample() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /*
+     * Ends measuring work done for a structure
+     *
+     * @param  entity the structure the work was done for
+     * @param  start the value returned by startSample
+     */
+    public void endSample(EntityRef entity, long start) {
+        if (enabled && start != 0) {
+            timeSpent.merge(entity, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void update(float delta) {
+        if (!enabled) {
+            return;
+        }
+
+        long gameTime = time.getGameTimeInMs();
+        if (gameTime > lastSample + SAMPLE_PERIOD) {
+            List<Vector3f> viewers = getViewerPositions();
+            Set<EntityRef> published = new HashSet<>();
+
+            for (EntityRef charcoalPit : entityManager.getEntitiesWith(CharcoalPitComponent.class)) {
+                Vector3f position = getLabelPosition(charcoalPit);
+                if (isInView(position, viewers)) {
+                    publishCharcoalPit(charcoalPit, getDebugInfo(charcoalPit, position), gameTime);
+                    published.add(charcoalPit);
+                }
+            }
+            for (EntityRef station : entityManager.getEntitiesWith(WorkstationComponent.class)) {
+                if (isSmithingStation(station)) {
+                    Vector3f position = getLabelPosition(station);
+                    if (isInView(position, viewers)) {
+                        publishStation(station, getDebugInfo(station, position), gameTime);
+                        published.add(station);
+                    }
+                }
+            }
+
+            // Structures that left every player's view or no longer exist stop being published
+            Iterator<Map.Entry<EntityRef, EntityRef>> entries = debugInfoEntities.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<EntityRef, EntityRef> entry = entries.next();
+                if (!published.contains(entry.getKey())) {
+                    entry.getValue().destroy();
+                    entries.remove();
+                }
+            }
+
+            timeSpent.clear();
+            lastSample = gameTime;
+        }
+    }
+
+    @Command(shortDescription = "Toggles the smithing debug overlay for all players",
+            runOnServer = true, requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String smithingDebug() {
+        enabled = !enabled;
+        timeSpent.clear();
+        if (!enabled) {
+            for (EntityRef debugInfoEntity : debugInfoEntities.values()) {
+                debugInfoEntity.destroy();
+            }
+            debugInfoEntities.clear();
+        }
+        return "Smithing debugging " + (enabled ? "enabled" : "disabled");
+    }
+
+    private void publishCharcoalPit(EntityRef entity, EntityRef debugInfoEntity, long gameTime) {
+        CharcoalPitComponent charcoalPit = entity.getComponent(CharcoalPitComponent.class);
+        SmithingDebugInfoComponent info = debugInfoEntity.getComponent(SmithingDebugInfoComponent.class);
+
+        if (charcoalPit.burnFinishWorldTime > gameTime) {
+            info.state = "burning";
+            info.remainingTime = charcoalPit.burnFinishWorldTime - gameTime;
+            info.pendingYield = charcoalPit.burnCharcoalCount;
+        } else if (charcoalPit.charcoalPending) {
+            info.state = "queued";
+            info.remainingTime = 0;
+            info.pendingYield = charcoalPit.burnCharcoalCount;
+        } else {
+            info.state = "idle";
+            info.remainingTime = 0;
+            info.pendingYield = 0;
+        }
+        info.heat = 0;
+        info.serverTimeMicros = timeSpent.getOrDefault(entity, 0L) / 1000;
+
+        debugInfoEntity.saveComponent(info);
+    }
+
+    private void publishStation(EntityRef entity, EntityRef debugInfoEntity, long gameTime) {
+        SmithingDebugInfoComponent info = debugInfoEntity.getComponent(SmithingDebugInfoComponent.class);
+
+        WorkstationProcessingComponent processing = entity.getComponent(WorkstationProcessingComponent.class);
+        SmithingOrderQueueComponent queue = entity.getComponent(SmithingOrderQueueComponent.class);
+
+        int queuedCount = 0;
+        if (queue != null) {
+            for (SmithingOrderQueueComponent.SmithingOrder order : queue.orders) {
+                queuedCount += order.count;
+            }
+        }
+
+        long finishTime = 0;
+        if (processing != null) {
+            for (WorkstationProcessingComponent.ProcessDef process : processing.processes.values()) {
+                finishTime = Math.max(finishTime, process.processingFinishTime);
+            }
+        }
+
+        if (finishTime > gameTime) {
+            info.state = "processing";
+            info.remainingTime = finishTime - gameTime;
+        } else if (queuedCount > 0) {
+            info.state = "queued";
+            info.remainingTime = 0;
+        } else {
+            info.state = "idle";
+            info.remainingTime = 0;
+        }
+        info.pendingYield = queuedCount;
+        info.heat = entity.hasComponent(HeatProducerComponent.class) ? HeatUtils.calculateHeatForEntity(entity, blockEntityRegistry) : 0;
+        info.serverTimeMicros = timeSpent.getOrDefault(entity, 0L) / 1000;
+
+        debugInfoEntity.saveComponent(info);
+    }
+
+    /*
+     * Retrieves the entity holding the published state of a structure, creating it on first use
+     *
+     * @param  entity the charcoal pit or station
+     * @param  position where the overlay shows the state of the structure
+     *
+     * @return the entity holding the SmithingDebugInfoComponent of the structure
+     */
+    private EntityRef getDebugInfo(EntityRef entity, Vector3f position) {
+        EntityRef debugInfoEntity = debugInfoEntities.get(entity);
+        if (debugInfoEntity == null || !debugInfoEntity.exists()) {
+            SmithingDebugInfoComponent info = new SmithingDebugInfoComponent();
+            info.subject = entity;
+
+            LocationComponent location = new LocationComponent();
+            location.setWorldPosition(position);
+
+            // Never saved, and only sent to the clients the location is relevant to
+            EntityBuilder builder = entityManager.newBuilder();
+            builder.setPersistent(false);
+            builder.addComponent(info);
+            builder.addComponent(location);
+            builder.addComponent(new NetworkComponent());
+            debugInfoEntity = builder.build();
+            debugInfoEntities.put(entity, debugInfoEntity);
+        }
+        return debugInfoEntity;
+    }
+
+    private List<Vector3f> getViewerPositions() {
+        List<Vector3f> result = new ArrayList<>();
+        for (EntityRef client : entityManager.getEntitiesWith(ClientComponent.class)) {
+            LocationComponent location = client.getComponent(ClientComponent.class).character.getComponent(LocationComponent.class);
+            if (location != null) {
+                result.add(location.getWorldPosition(new Vector3f()));
+            }
+        }
+        return result;
+    }
+
+    private boolean isInView(Vector3f position, List<Vector3f> viewers) {
+        if (position == null) {
+            return false;
+        }
+        for (Vector3f viewer : viewers) {
+            if (viewer.distanceSquared(position) <= VIEW_DISTANCE * VIEW_DISTANCE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Vector3f getLabelPosition(EntityRef entity) {
+        BlockRegionComponent region = entity.getComponent(BlockRegionComponent.class);
+        if (region != null) {
+            return region.region.center(new Vector3f()).setComponent(1, region.region.maxY() + 1.5f);
+        }
+
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        if (location != null) {
+            return location.getWorldPosition(new Vector3f()).add(0, 1.5f, 0);
+        }
+        return null;
+    }
+
+    private boolean isSmithingStation(EntityRef entity) {
+        WorkstationComponent workstation = entity.getComponent(WorkstationComponent.class);
+        return workstation.supportedProcessTypes.containsKey(Smithing.BASIC_SMITHING_PROCESS);
+    }
+}
@@ -0,0 +1,181 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.event.ReceiveEvent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.smithing.Smithing;
+import org.terasology.smithing.component.SmithingOrderQueueComponent;
+import org.terasology.smithing.event.QueueSmithingOrderRequest;
+import org.terasology.workstation.component.WorkstationComponent;
+import org.terasology.workstation.component.WorkstationProcessingComponent;
+import org.terasology.workstation.event.WorkstationProcessRequest;
+import org.terasology.workstation.process.WorkstationProcess;
+import org.terasology.workstation.system.WorkstationRegistry;
+
+import java.util.Iterator;
+import java.util.List;
+
+/*
+ * Keeps the order queues of smithing stations and starts the queued orders as soon as the station allows it
+ */
+@RegisterSystem(value = RegisterMode.AUTHORITY)
+public class SmithingOrderQueueAuthoritySystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    /** How often in milliseconds the stations with queued orders are checked */
+    private static final long CHECK_INTERVAL = 500;
+
+    @In
+    private Time time;
+    @In
+    private EntityManager entityManager;
+    @In
+    private WorkstationRegistry workstationRegistry;
+    @In
+    private SmithingDebugSystem debug;
+
+    private long lastUpdate;
+
+    @Override
+    public void update(float delta) {
+        long gameTimeInMs = time.getGameTimeInMs();
+        if (gameTimeInMs > lastUpdate + CHECK_INTERVAL) {
+            for (EntityRef station : entityManager.getEntitiesWith(SmithingOrderQueueComponent.class, WorkstationComponent.class)) {
+                startNextOrder(station);
+            }
+
+            lastUpdate = gameTimeInMs;
+        }
+    }
+
+    /*
+     * Adds an order to the queue of a station, or cancels the character's orders for a process if the count is not
+     * positive. Orders of different characters are kept apart, as each is started with its own character as instigator.
+     *
+     * @param  event the event containing the order
+     * @param  instigator the character that queued the order
+     */
+    @ReceiveEvent
+    public void queueSmithingOrder(QueueSmithingOrderRequest event, EntityRef instigator) {
+        EntityRef station = event.getWorkstation();
+        String processId = event.getProcessId();
+        WorkstationComponent workstation = station.getComponent(WorkstationComponent.class);
+        if (workstation == null || processId == null) {
+            return;
+        }
+        // Only smithing crafting processes can be queued, the station runs its other processes on its own
+        if (event.getCount() > 0) {
+            WorkstationProcess process = workstationRegistry.getWorkstationProcessById(workstation.supportedProcessTypes.keySet(), processId);
+            if (process == null || !Smithing.isSmithingProcess(process.getProcessType())) {
+                return;
+            }
+        }
+
+        SmithingOrderQueueComponent queue = station.getComponent(SmithingOrderQueueComponent.class);
+        if (queue == null) {
+            if (event.getCount() <= 0) {
+                return;
+            }
+            queue = new SmithingOrderQueueComponent();
+            station.addComponent(queue);
+        }
+
+        List<SmithingOrderQueueComponent.SmithingOrder> orders = queue.orders;
+        if (event.getCount() <= 0) {
+            orders.removeIf(order -> order.processId.equals(processId) && order.instigator.equals(instigator));
+        } else {
+            for (SmithingOrderQueueComponent.SmithingOrder order : orders) {
+                if (order.processId.equals(processId) && order.priority == event.getPriority()
+                        && order.instigator.equals(instigator)) {
+                    order.count = (int) Math.min(Integer.MAX_VALUE, (long) order.count + event.getCount());
+                    station.saveComponent(queue);
+                    startNextOrder(station);
+                    return;
+                }
+            }
+
+            int insertIndex = 0;
+            while (insertIndex < orders.size() && orders.get(insertIndex).priority >= event.getPriority()) {
+                insertIndex++;
+            }
+
+            SmithingOrderQueueComponent.SmithingOrder order = new SmithingOrderQueueComponent.SmithingOrder();
+            order.processId = processId;
+            order.count = event.getCount();
+            order.priority = event.getPriority();
+            order.instigator = instigator;
+            orders.add(insertIndex, order);
+        }
+        station.saveComponent(queue);
+
+        startNextOrder(station);
+    }
+
+    /*
+     * Starts the first queued order that the station is currently able to process
+     *
+     * @param  station the station with the order queue
+     */
+    private void startNextOrder(EntityRef station) {
+        long sample = debug.startSample();
+        try {
+            startFirstPossibleOrder(station);
+        } finally {
+            debug.endSample(station, sample);
+        }
+    }
+
+    private void startFirstPossibleOrder(EntityRef station) {
+        SmithingOrderQueueComponent queue = station.getComponent(SmithingOrderQueueComponent.class);
+        if (queue.orders.isEmpty()) {
+            return;
+        }
+
+        WorkstationComponent workstation = station.getComponent(WorkstationComponent.class);
+        boolean changed = false;
+
+        Iterator<SmithingOrderQueueComponent.SmithingOrder> iterator = queue.orders.iterator();
+        while (iterator.hasNext()) {
+            SmithingOrderQueueComponent.SmithingOrder order = iterator.next();
+
+            WorkstationProcess process = workstationRegistry.getWorkstationProcessById(workstation.supportedProcessTypes.keySet(), order.processId);
+            if (process == null) {
+                // The station can no longer run this process, e.g. it was upgraded
+                iterator.remove();
+                changed = true;
+                continue;
+            }
+
+            String processType = process.getProcessType();
+            if (isProcessing(station, processType) || !order.instigator.exists()) {
+                continue;
+            }
+
+            // The workstation validates temperature, tools and ingredients, if anything is missing nothing starts
+            order.instigator.send(new WorkstationProcessRequest(station, order.processId));
+            if (isProcessing(station, processType)) {
+                order.count--;
+                if (order.count <= 0) {
+                    iterator.remove();
+                }
+                changed = true;
+                break;
+            }
+        }
+
+        if (changed) {
+            station.saveComponent(queue);
+        }
+    }
+
+    private boolean isProcessing(EntityRef station, String processType) {
+        WorkstationProcessingComponent processing = station.getComponent(WorkstationProcessingComponent.class);
+        return processing != null && processing.processes.containsKey(processType);
+    }
+}
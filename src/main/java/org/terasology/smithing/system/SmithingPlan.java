@@ -0,0 +1,94 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * What a production line needs to produce an item at a given rate, as computed by SmithingPlannerSystem
+ */
+public final class SmithingPlan {
+    private final String item;
+    private final float itemsPerHour;
+    private final Map<String, Float> rawMaterialsPerHour;
+    private final Map<String, Float> stationsPerProcessType;
+    private final Set<String> processTypesWithoutThroughput;
+    private final int litStationCount;
+    private final float maximumTemperature;
+    private final float charcoalPerHour;
+    private final float charcoalPits;
+
+    SmithingPlan(String item, float itemsPerHour, Map<String, Float> rawMaterialsPerHour, Map<String, Float> stationsPerProcessType,
+                 Set<String> processTypesWithoutThroughput, int litStationCount, float maximumTemperature, float charcoalPerHour,
+                 float charcoalPits) {
+        this.item = item;
+        this.itemsPerHour = itemsPerHour;
+        this.rawMaterialsPerHour = Collections.unmodifiableMap(rawMaterialsPerHour);
+        this.stationsPerProcessType = Collections.unmodifiableMap(stationsPerProcessType);
+        this.processTypesWithoutThroughput = Collections.unmodifiableSet(processTypesWithoutThroughput);
+        this.litStationCount = litStationCount;
+        this.maximumTemperature = maximumTemperature;
+        this.charcoalPerHour = charcoalPerHour;
+        this.charcoalPits = charcoalPits;
+    }
+
+    public String getItem() {
+        return item;
+    }
+
+    public float getItemsPerHour() {
+        return itemsPerHour;
+    }
+
+    /*
+    * @return the ingredients no smithing recipe produces, such as ores, nuggets and logs, per hour
+    */
+    public Map<String, Float> getRawMaterialsPerHour() {
+        return rawMaterialsPerHour;
+    }
+
+    /*
+    * @return the number of stations kept busy, by the process type they have to support
+    */
+    public Map<String, Float> getStationsPerProcessType() {
+        return stationsPerProcessType;
+    }
+
+    /*
+    * @return the process types used by recipes without a processing duration, for which the number of busy stations
+    *         can not be derived from the rate
+    */
+    public Set<String> getProcessTypesWithoutThroughput() {
+        return processTypesWithoutThroughput;
+    }
+
+    /*
+    * @return the number of stations kept lit, at least one for every process type used
+    */
+    public int getLitStationCount() {
+        return litStationCount;
+    }
+
+    /*
+    * @return the highest temperature any of the stations has to reach
+    */
+    public float getMaximumTemperature() {
+        return maximumTemperature;
+    }
+
+    /*
+    * @return the charcoal burnt per hour by the stations kept lit
+    */
+    public float getCharcoalPerHour() {
+        return charcoalPerHour;
+    }
+
+    /*
+    * @return the number of charcoal pits needed to produce that charcoal
+    */
+    public float getCharcoalPits() {
+        return charcoalPits;
+    }
+}
@@ -0,0 +1,257 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.console.commandSystem.annotations.CommandParam;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.heat.component.HeatFuelComponent;
+import org.terasology.smithing.Smithing;
+import org.terasology.workstation.component.ProcessDefinitionComponent;
+import org.terasology.workstation.process.WorkstationProcess;
+import org.terasology.workstation.system.WorkstationRegistry;
+import org.terasology.workstationCrafting.component.CraftingStationIngredientComponent;
+import org.terasology.workstationCrafting.component.CraftingStationRecipeComponent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/*
+ * Plans smithing production lines, computing how many stations and charcoal pits and how much raw material is needed
+ * to produce an item at a given rate
+ */
+@RegisterSystem
+@Share(SmithingPlannerSystem.class)
+public class SmithingPlannerSystem extends BaseComponentSystem {
+    /** The number of plans kept for repeated queries */
+    private static final int CACHED_PLAN_COUNT = 64;
+
+    /** The fuel burnt by the charcoal pits, by its crafting ingredient type */
+    private static final String LOG_INGREDIENT = "WorkstationCrafting:wood";
+
+    private static final float MS_PER_HOUR = 60 * 60 * 1000;
+
+    @In
+    private PrefabManager prefabManager;
+    @In
+    private WorkstationRegistry workstationRegistry;
+
+    /** The smithing recipes by the lower case crafting ingredient type of the item they produce, built on first use */
+    private Map<String, PlannedRecipe> recipes;
+
+    private final Map<String, SmithingPlan> cachedPlans = new LinkedHashMap<String, SmithingPlan>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SmithingPlan> eldest) {
+            return size() > CACHED_PLAN_COUNT;
+        }
+    };
+
+    /*
+     * Plans the production of an item in charcoal pits of the smallest size
+     *
+     * @param  item the uri of the item to produce
+     * @param  itemsPerHour how many items should be produced per hour
+     *
+     * @return the plan
+     */
+    public SmithingPlan plan(String item, float itemsPerHour) {
+        return plan(item, itemsPerHour, 1);
+    }
+
+    /*
+     * Plans the production of an item
+     *
+     * @param  item the uri of the item to produce
+     * @param  itemsPerHour how many items should be produced per hour
+     * @param  charcoalPitAirBlocks the number of blocks of air inside the charcoal pits used for fuel
+     *
+     * @return the plan
+     */
+    public SmithingPlan plan(String item, float itemsPerHour, int charcoalPitAirBlocks) {
+        String key = item.toLowerCase() + "|" + itemsPerHour + "|" + charcoalPitAirBlocks;
+        SmithingPlan plan = cachedPlans.get(key);
+        if (plan == null) {
+            plan = computePlan(item, itemsPerHour, Math.max(1, charcoalPitAirBlocks));
+            cachedPlans.put(key, plan);
+        }
+        return plan;
+    }
+
+    @Command(shortDescription = "Plans the stations, charcoal pits and materials needed to smith an item at a rate",
+            helpText = "Computes the smithing stations, charcoal pits, fuel and raw materials needed to produce the given item per hour")
+    public String smithingPlan(@CommandParam("item") String item, @CommandParam("itemsPerHour") float itemsPerHour) {
+        SmithingPlan plan = plan(item, itemsPerHour);
+
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("%.1f x %s per hour:", plan.getItemsPerHour(), plan.getItem()));
+        for (Map.Entry<String, Float> stations : plan.getStationsPerProcessType().entrySet()) {
+            if (plan.getProcessTypesWithoutThroughput().contains(stations.getKey())) {
+                result.append(String.format("%n  stations supporting %s: can not be derived, its recipes set no processing duration",
+                        stations.getKey()));
+            } else {
+                result.append(String.format("%n  %.2f stations supporting %s", stations.getValue(), stations.getKey()));
+            }
+        }
+        result.append(String.format("%n  %d stations kept lit, reaching %.0f degrees", plan.getLitStationCount(), plan.getMaximumTemperature()));
+        result.append(String.format("%n  %.1f charcoal per hour from %.2f charcoal pits", plan.getCharcoalPerHour(), plan.getCharcoalPits()));
+        for (Map.Entry<String, Float> material : plan.getRawMaterialsPerHour().entrySet()) {
+            result.append(String.format("%n  %.1f x %s per hour", material.getValue(), material.getKey()));
+        }
+        return result.toString();
+    }
+
+    private SmithingPlan computePlan(String item, float itemsPerHour, int charcoalPitAirBlocks) {
+        Map<String, Float> rawMaterials = new TreeMap<>();
+        Map<String, Float> stations = new TreeMap<>();
+        Set<String> processTypesWithoutThroughput = new TreeSet<>();
+        float[] maximumTemperature = new float[1];
+
+        addProduction(getIngredientType(item), itemsPerHour, rawMaterials, stations, processTypesWithoutThroughput, maximumTemperature, 0);
+
+        // A lit station burns charcoal to stay at its temperature whether it is crafting or not, so whole stations are
+        // counted, at least one per process type even where the recipes give no throughput to derive more from
+        int litStationCount = 0;
+        for (float count : stations.values()) {
+            litStationCount += Math.max(1, (int) Math.ceil(count));
+        }
+        float charcoalPerHour = litStationCount * MS_PER_HOUR / getCharcoalConsumeTime();
+
+        // A charcoal pit burns its maximum load of logs into as much charcoal per burn
+        int logsPerBurn = CharcoalPitUtils.MAXIMUM_LOGS_PER_AIR_BLOCK * charcoalPitAirBlocks;
+        int charcoalPerBurn = CharcoalPitUtils.getResultCharcoalCount(logsPerBurn, logsPerBurn);
+        float charcoalPerPitHour = charcoalPerBurn * MS_PER_HOUR / CharcoalPitUtils.BURN_LENGTH;
+        float charcoalPits = charcoalPerHour / charcoalPerPitHour;
+        rawMaterials.merge(LOG_INGREDIENT, charcoalPits * logsPerBurn * MS_PER_HOUR / CharcoalPitUtils.BURN_LENGTH, Float::sum);
+
+        return new SmithingPlan(item, itemsPerHour, rawMaterials, stations, processTypesWithoutThroughput, litStationCount,
+                maximumTemperature[0], charcoalPerHour, charcoalPits);
+    }
+
+    private void addProduction(String ingredientType, float itemsPerHour, Map<String, Float> rawMaterials, Map<String, Float> stations,
+                               Set<String> processTypesWithoutThroughput, float[] maximumTemperature, int depth) {
+        // Recipes list their ingredients by crafting ingredient type, so producers are looked up by that type too
+        PlannedRecipe recipe = getRecipes().get(ingredientType.toLowerCase());
+        // Recipes producing their own ingredients would never end, treat anything that deep as a raw material
+        if (recipe == null || depth > getRecipes().size()) {
+            rawMaterials.merge(ingredientType, itemsPerHour, Float::sum);
+            return;
+        }
+
+        float runsPerHour = itemsPerHour / recipe.resultCount;
+        stations.merge(recipe.processType, runsPerHour * recipe.processingDuration / MS_PER_HOUR, Float::sum);
+        if (recipe.processingDuration <= 0) {
+            processTypesWithoutThroughput.add(recipe.processType);
+        }
+        maximumTemperature[0] = Math.max(maximumTemperature[0], recipe.requiredTemperature);
+
+        for (Map.Entry<String, Integer> ingredient : recipe.ingredients.entrySet()) {
+            addProduction(ingredient.getKey(), runsPerHour * ingredient.getValue(), rawMaterials, stations, processTypesWithoutThroughput,
+                    maximumTemperature, depth + 1);
+        }
+    }
+
+    private Map<String, PlannedRecipe> getRecipes() {
+        if (recipes == null) {
+            recipes = new HashMap<>();
+            for (Prefab prefab : prefabManager.listPrefabs(CraftingStationRecipeComponent.class)) {
+                ProcessDefinitionComponent processDefinition = prefab.getComponent(ProcessDefinitionComponent.class);
+                if (processDefinition == null || !Smithing.isSmithingProcess(processDefinition.processType)) {
+                    continue;
+                }
+
+                CraftingStationRecipeComponent recipeComponent = prefab.getComponent(CraftingStationRecipeComponent.class);
+                // Only plan with recipes the stations can actually run
+                if (recipeComponent.itemResult == null || getRegisteredProcess(processDefinition.processType, prefab, recipeComponent) == null) {
+                    continue;
+                }
+
+                PlannedRecipe recipe = new PlannedRecipe();
+                recipe.processType = processDefinition.processType;
+                recipe.requiredTemperature = recipeComponent.requiredTemperature;
+                // The registered crafting process takes the recipe's processing duration, none means it finishes right away
+                recipe.processingDuration = Math.max(0, recipeComponent.processingDuration);
+                if (recipeComponent.recipeComponents != null) {
+                    for (String ingredient : recipeComponent.recipeComponents) {
+                        recipe.ingredients.merge(getItem(ingredient), getCount(ingredient), Integer::sum);
+                    }
+                }
+                recipe.resultCount = getCount(recipeComponent.itemResult);
+
+                recipes.put(getIngredientType(getItem(recipeComponent.itemResult)).toLowerCase(), recipe);
+            }
+        }
+        return recipes;
+    }
+
+    /*
+     * Looks up the workstation process registered for a recipe prefab
+     *
+     * @param  processType the process type of the recipe
+     * @param  prefab the recipe prefab
+     * @param  recipeComponent the recipe of the prefab
+     *
+     * @return the registered process or null if the recipe is not registered with any station
+     */
+    private WorkstationProcess getRegisteredProcess(String processType, Prefab prefab, CraftingStationRecipeComponent recipeComponent) {
+        for (WorkstationProcess process : workstationRegistry.getWorkstationProcesses(Collections.singleton(processType))) {
+            String processId = process.getId();
+            if (processId.equalsIgnoreCase(prefab.getName()) || processId.equalsIgnoreCase(recipeComponent.recipeId)) {
+                return process;
+            }
+        }
+        return null;
+    }
+
+    /*
+     * Resolves an item to the crafting ingredient type recipes refer to it by
+     *
+     * @param  item the uri of the item prefab, or already an ingredient type
+     *
+     * @return the ingredient type of the item, or the given value if it is not an item with an ingredient type
+     */
+    private String getIngredientType(String item) {
+        Prefab prefab = prefabManager.getPrefab(item);
+        CraftingStationIngredientComponent ingredient = prefab != null ? prefab.getComponent(CraftingStationIngredientComponent.class) : null;
+        return ingredient != null && ingredient.type != null ? ingredient.type : item;
+    }
+
+    private long getCharcoalConsumeTime() {
+        Prefab charcoal = prefabManager.getPrefab(CharcoalPitUtils.CHARCOAL_PREFAB);
+        HeatFuelComponent heatFuel = charcoal != null ? charcoal.getComponent(HeatFuelComponent.class) : null;
+        return heatFuel != null && heatFuel.consumeTime > 0 ? heatFuel.consumeTime : 15000;
+    }
+
+    /*
+     * Extracts the item from a recipe entry such as "2*Smithing:copperNugget"
+     */
+    private static String getItem(String recipeEntry) {
+        int separator = recipeEntry.indexOf('*');
+        return separator >= 0 ? recipeEntry.substring(separator + 1) : recipeEntry;
+    }
+
+    /*
+     * Extracts the count from a recipe entry such as "2*Smithing:copperNugget"
+     */
+    private static int getCount(String recipeEntry) {
+        int separator = recipeEntry.indexOf('*');
+        return separator >= 0 ? Integer.parseInt(recipeEntry.substring(0, separator)) : 1;
+    }
+
+    private static final class PlannedRecipe {
+        private String processType;
+        private float requiredTemperature;
+        private long processingDuration;
+        private int resultCount;
+        private final Map<String, Integer> ingredients = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,141 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.console.commandSystem.annotations.CommandParam;
+import org.terasology.engine.logic.permission.PermissionManager;
+import org.terasology.engine.registry.Share;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Queues the smithing work that does not have to happen in the tick it was triggered in, such as finishing charcoal
+ * burns, and drains the queue within a limited time slice every tick
+ */
+@RegisterSystem(value = RegisterMode.AUTHORITY)
+@Share(SmithingWorkBudgetSystem.class)
+public class SmithingWorkBudgetSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    private static final Logger logger = LoggerFactory.getLogger(SmithingWorkBudgetSystem.class);
+
+    /** The default time in milliseconds that queued work may take per tick */
+    public static final float DEFAULT_TIME_SLICE = 2f;
+
+    /** A backlog of this size is reported as a warning */
+    private static final int BACKLOG_WARNING_SIZE = 1000;
+
+    private final Deque<QueuedWork> queue = new ArrayDeque<>();
+    private final Map<EntityRef, Integer> pendingPerEntity = new HashMap<>();
+
+    private long timeSliceNanos = (long) (DEFAULT_TIME_SLICE * 1000000);
+    private int maximumBacklog;
+    private long processedCount;
+    private boolean backlogWarned;
+
+    @Override
+    public void update(float delta) {
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        // Always run at least one piece of work so the queue keeps moving, even with a tiny time slice
+        long deadline = System.nanoTime() + timeSliceNanos;
+        do {
+            QueuedWork work = queue.poll();
+            removePending(work.entity);
+            // Work for an entity that was unloaded in the meantime is skipped, queued work must therefore keep its
+            // state on the entity and queue itself again when the entity is loaded
+            if (work.entity.exists()) {
+                work.runnable.run();
+            }
+            processedCount++;
+        } while (!queue.isEmpty() && System.nanoTime() < deadline);
+
+        if (queue.isEmpty()) {
+            backlogWarned = false;
+        }
+    }
+
+    /*
+     * Queues work to be done in a later tick, within the time slice. The queue is not saved, so the work has to be
+     * recorded on the entity as well to survive the server stopping.
+     *
+     * @param  entity the entity the work is done for, the work is dropped if it no longer exists
+     * @param  work the work to do
+     */
+    public void enqueue(EntityRef entity, Runnable work) {
+        queue.add(new QueuedWork(entity, work));
+        pendingPerEntity.merge(entity, 1, Integer::sum);
+
+        maximumBacklog = Math.max(maximumBacklog, queue.size());
+        if (queue.size() >= BACKLOG_WARNING_SIZE && !backlogWarned) {
+            logger.warn("Smithing work backlog reached {} entries", queue.size());
+            backlogWarned = true;
+        }
+    }
+
+    /*
+     * Checks if work queued for an entity has not been done yet
+     *
+     * @param  entity the entity to check
+     *
+     * @return true if there is queued work for the entity
+     */
+    public boolean hasPendingWork(EntityRef entity) {
+        return pendingPerEntity.containsKey(entity);
+    }
+
+    public int getBacklog() {
+        return queue.size();
+    }
+
+    public int getMaximumBacklog() {
+        return maximumBacklog;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public float getTimeSlice() {
+        return timeSliceNanos / 1000000f;
+    }
+
+    public void setTimeSlice(float milliseconds) {
+        timeSliceNanos = (long) (Math.max(0f, milliseconds) * 1000000);
+    }
+
+    @Command(shortDescription = "Shows or sets the time in milliseconds smithing work may take per tick",
+            runOnServer = true, requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String smithingWorkBudget(@CommandParam(value = "milliseconds", required = false) Float milliseconds) {
+        if (milliseconds != null) {
+            setTimeSlice(milliseconds);
+        }
+        return String.format("Smithing work budget: %.2f ms per tick, backlog %d (maximum %d), %d done",
+                getTimeSlice(), getBacklog(), getMaximumBacklog(), getProcessedCount());
+    }
+
+    private void removePending(EntityRef entity) {
+        pendingPerEntity.computeIfPresent(entity, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static final class QueuedWork {
+        private final EntityRef entity;
+        private final Runnable runnable;
+
+        private QueuedWork(EntityRef entity, Runnable runnable) {
+            this.entity = entity;
+            this.runnable = runnable;
+        }
+    }
+}
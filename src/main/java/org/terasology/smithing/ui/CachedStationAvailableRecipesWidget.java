@@ -0,0 +1,106 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.ui;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.logic.players.LocalPlayer;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.engine.world.BlockEntityRegistry;
+import org.terasology.heat.HeatUtils;
+import org.terasology.heat.component.HeatProducerComponent;
+import org.terasology.nui.UIWidget;
+import org.terasology.workstation.component.ProcessDefinitionComponent;
+import org.terasology.workstation.component.WorkstationComponent;
+import org.terasology.workstationCrafting.component.CraftingStationRecipeComponent;
+import org.terasology.workstationCrafting.ui.workstation.StationAvailableRecipesWidget;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/*
+ * Lists the recipes available on a station like StationAvailableRecipesWidget, but only works out which recipes are
+ * available again when the station's or the player's inventory changed, or the station's temperature crossed the
+ * temperature required by one of its recipes, instead of every frame
+ */
+public class CachedStationAvailableRecipesWidget extends StationAvailableRecipesWidget {
+    private final InventorySnapshot inventorySnapshot = new InventorySnapshot();
+    private EntityRef station = EntityRef.NULL;
+    /** The distinct temperatures required by the station's recipes, in ascending order */
+    private float[] requiredTemperatures = new float[0];
+    /** How many of the required temperatures the station reached when the recipes were last checked */
+    private int reachedTemperatures = -1;
+
+    @Override
+    public void setStation(EntityRef station) {
+        this.station = station;
+        inventorySnapshot.clear();
+        requiredTemperatures = getRequiredTemperatures(station);
+        reachedTemperatures = -1;
+        super.setStation(station);
+    }
+
+    @Override
+    public void update(float delta) {
+        EntityRef character = CoreRegistry.get(LocalPlayer.class).getCharacterEntity();
+
+        // Both checks have to run every frame so that each keeps its own state current
+        boolean inventoryChanged = inventorySnapshot.update(station, character);
+        boolean temperatureCrossed = updateReachedTemperatures();
+        if (inventoryChanged || temperatureCrossed) {
+            super.update(delta);
+        } else {
+            // Only skip the recipe check, the listed recipe widgets still need their updates
+            for (UIWidget widget : this) {
+                widget.update(delta);
+            }
+        }
+    }
+
+    /*
+     * Works out how many of the required temperatures the station has reached
+     *
+     * @return true if that changed since the last call
+     */
+    private boolean updateReachedTemperatures() {
+        int reached = 0;
+        if (requiredTemperatures.length > 0 && station.hasComponent(HeatProducerComponent.class)) {
+            float heat = HeatUtils.calculateHeatForEntity(station, CoreRegistry.get(BlockEntityRegistry.class));
+            while (reached < requiredTemperatures.length && requiredTemperatures[reached] <= heat) {
+                reached++;
+            }
+        }
+        if (reached == reachedTemperatures) {
+            return false;
+        }
+        reachedTemperatures = reached;
+        return true;
+    }
+
+    private static float[] getRequiredTemperatures(EntityRef station) {
+        WorkstationComponent workstation = station.getComponent(WorkstationComponent.class);
+        if (workstation == null) {
+            return new float[0];
+        }
+
+        SortedSet<Float> temperatures = new TreeSet<>();
+        for (Prefab prefab : CoreRegistry.get(PrefabManager.class).listPrefabs(CraftingStationRecipeComponent.class)) {
+            ProcessDefinitionComponent processDefinition = prefab.getComponent(ProcessDefinitionComponent.class);
+            if (processDefinition == null || !workstation.supportedProcessTypes.containsKey(processDefinition.processType)) {
+                continue;
+            }
+            float requiredTemperature = prefab.getComponent(CraftingStationRecipeComponent.class).requiredTemperature;
+            if (requiredTemperature > 0) {
+                temperatures.add(requiredTemperature);
+            }
+        }
+
+        float[] result = new float[temperatures.size()];
+        int index = 0;
+        for (float temperature : temperatures) {
+            result[index++] = temperature;
+        }
+        return result;
+    }
+}
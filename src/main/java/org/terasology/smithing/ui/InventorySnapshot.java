@@ -0,0 +1,68 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.ui;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.inventory.ItemComponent;
+import org.terasology.module.inventory.components.InventoryComponent;
+
+/*
+ * Remembers the item and stack size in every slot of a few inventories, so screens can tell whether anything changed
+ * since they last computed something from them
+ */
+final class InventorySnapshot {
+    private long[] itemIds = new long[0];
+    private int[] stackCounts = new int[0];
+
+    /*
+     * Compares the inventories with the snapshot and stores their current contents
+     *
+     * @param  inventories the entities whose inventories are compared, entities without an inventory are skipped
+     *
+     * @return true if any slot differs from the snapshot
+     */
+    boolean update(EntityRef... inventories) {
+        int slotCount = 0;
+        for (EntityRef entity : inventories) {
+            InventoryComponent inventory = entity.getComponent(InventoryComponent.class);
+            if (inventory != null) {
+                slotCount += inventory.itemSlots.size();
+            }
+        }
+
+        boolean changed = false;
+        if (slotCount != itemIds.length) {
+            itemIds = new long[slotCount];
+            stackCounts = new int[slotCount];
+            changed = true;
+        }
+
+        int index = 0;
+        for (EntityRef entity : inventories) {
+            InventoryComponent inventory = entity.getComponent(InventoryComponent.class);
+            if (inventory == null) {
+                continue;
+            }
+            for (EntityRef item : inventory.itemSlots) {
+                ItemComponent itemComponent = item.getComponent(ItemComponent.class);
+                long itemId = item.getId();
+                int stackCount = itemComponent != null ? itemComponent.stackCount : 0;
+                if (itemIds[index] != itemId || stackCounts[index] != stackCount) {
+                    itemIds[index] = itemId;
+                    stackCounts[index] = stackCount;
+                    changed = true;
+                }
+                index++;
+            }
+        }
+        return changed;
+    }
+
+    /*
+     * Forgets the stored contents, so the next update reports a change
+     */
+    void clear() {
+        itemIds = new long[0];
+        stackCounts = new int[0];
+    }
+}
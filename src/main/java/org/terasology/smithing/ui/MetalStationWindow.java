@@ -13,11 +13,18 @@ import org.terasology.heat.component.HeatProducerComponent;
 import org.terasology.heat.ui.ThermometerWidget;
 import org.terasology.nui.UIWidget;
 import org.terasology.nui.databinding.Binding;
+import org.terasology.nui.itemRendering.StringTextRenderer;
 import org.terasology.nui.widgets.ActivateEventListener;
 import org.terasology.nui.widgets.UIButton;
+import org.terasology.nui.widgets.UIDropdown;
+import org.terasology.nui.widgets.UILabel;
 import org.terasology.nui.widgets.UILoadBar;
+import org.terasology.nui.widgets.UIText;
 import org.terasology.processing.ui.VerticalTextureProgressWidget;
 import org.terasology.smithing.Smithing;
+import org.terasology.smithing.component.SmithingOrderQueueComponent;
+import org.terasology.smithing.event.QueueSmithingOrderRequest;
+import org.terasology.workstation.component.WorkstationComponent;
 import org.terasology.workstation.component.WorkstationProcessingComponent;
 import org.terasology.workstation.event.WorkstationProcessRequest;
 import org.terasology.workstation.process.WorkstationProcess;
@@ -26,8 +33,8 @@ import org.terasology.workstationCrafting.component.CraftingStationUpgradeRecipe
 import org.terasology.workstationCrafting.system.CraftingWorkstationUpgradeProcess;
 import org.terasology.workstationCrafting.system.recipe.workstation.UpgradeRecipe;
 import org.terasology.workstationCrafting.ui.WorkstationScreenUtils;
-import org.terasology.workstationCrafting.ui.workstation.StationAvailableRecipesWidget;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -38,16 +45,29 @@ public class MetalStationWindow extends BaseInteractionScreen {
     private ThermometerWidget temperature;
     private VerticalTextureProgressWidget burn;
     private InventoryGrid fuelInput;
-    private StationAvailableRecipesWidget availableRecipes;
+    private CachedStationAvailableRecipesWidget availableRecipes;
     private InventoryGrid resultInventory;
     private UILoadBar craftingProgress;
     private InventoryGrid upgrades;
     private UIButton upgradeButton;
+    private UIDropdown<String> orderProcess;
+    private UIText orderCount;
+    private UIText orderPriority;
+    private UILabel orderQueue;
+    private UIButton queueOrderButton;
+    private UIButton cancelOrderButton;
 
     private EntityRef workstation;
-    private String upgradeRecipeDisplayed;
     private String matchingUpgradeRecipe;
 
+    private final RequestPrediction upgradePrediction = new RequestPrediction();
+    private String predictedUpgradeRecipe;
+
+    /** The upgrade processes for the type of the station, the recipe set does not change while the window is open */
+    private List<CraftingWorkstationUpgradeProcess> upgradeProcesses;
+    /** Contents of the station inventory the matching upgrade recipe was last computed for */
+    private final InventorySnapshot inventorySnapshot = new InventorySnapshot();
+
     @Override
     public void initialise() {
         ingredientsInventory = find("ingredientsInventory", InventoryGrid.class);
@@ -66,7 +86,21 @@ public class MetalStationWindow extends BaseInteractionScreen {
 
         fuelInput = find("fuelInput", InventoryGrid.class);
 
-        availableRecipes = find("availableRecipes", StationAvailableRecipesWidget.class);
+        availableRecipes = find("availableRecipes", CachedStationAvailableRecipesWidget.class);
+
+        orderProcess = find("orderProcess", UIDropdown.class);
+        orderCount = find("orderCount", UIText.class);
+        orderPriority = find("orderPriority", UIText.class);
+        orderQueue = find("orderQueue", UILabel.class);
+        queueOrderButton = find("queueOrderButton", UIButton.class);
+        cancelOrderButton = find("cancelOrderButton", UIButton.class);
+
+        orderCount.setText("1");
+        orderCount.setTooltip("Count");
+        orderPriority.setText("0");
+        orderPriority.setTooltip("Priority, higher is started first");
+        queueOrderButton.setText("Queue");
+        cancelOrderButton.setText("Cancel");
 
         craftingProgress = find("craftingProgress", UILoadBar.class);
 
@@ -82,6 +116,9 @@ public class MetalStationWindow extends BaseInteractionScreen {
     @Override
     protected void initializeWithInteractionTarget(final EntityRef station) {
         workstation = station;
+        upgradeProcesses = getUpgradeProcesses(CoreRegistry.get(WorkstationRegistry.class));
+        inventorySnapshot.update(station);
+        matchingUpgradeRecipe = getMatchingUpgradeRecipe();
 
         WorkstationScreenUtils.setupInventoryGrid(station, ingredientsInventory, "INPUT");
         WorkstationScreenUtils.setupInventoryGrid(station, toolsInventory, "TOOL");
@@ -95,6 +132,11 @@ public class MetalStationWindow extends BaseInteractionScreen {
                 new ActivateEventListener() {
                     @Override
                     public void onActivated(UIWidget widget) {
+                        // Hide the button right away, the server confirms the upgrade by consuming the upgrade items
+                        predictedUpgradeRecipe = matchingUpgradeRecipe;
+                        upgradePrediction.start(CoreRegistry.get(Time.class).getGameTimeInMs(), 0);
+                        upgradeButton.setVisible(false);
+
                         EntityRef character = CoreRegistry.get(LocalPlayer.class).getCharacterEntity();
                         character.send(new WorkstationProcessRequest(station, matchingUpgradeRecipe));
                     }
@@ -126,6 +168,54 @@ public class MetalStationWindow extends BaseInteractionScreen {
 
         availableRecipes.setStation(station);
 
+        // Orders are queued on the server, which starts them one after another as soon as the station allows it
+        List<String> orderProcesses = getOrderProcesses(CoreRegistry.get(WorkstationRegistry.class));
+        orderProcess.setOptions(orderProcesses);
+        orderProcess.setOptionRenderer(
+                new StringTextRenderer<String>() {
+                    @Override
+                    public String getString(String processId) {
+                        return processId.substring(processId.indexOf(':') + 1);
+                    }
+                });
+        if (!orderProcesses.isEmpty()) {
+            orderProcess.setSelection(orderProcesses.get(0));
+        }
+
+        queueOrderButton.subscribe(
+                new ActivateEventListener() {
+                    @Override
+                    public void onActivated(UIWidget widget) {
+                        int count = parseInt(orderCount, 0);
+                        if (orderProcess.getSelection() != null && count > 0) {
+                            EntityRef character = CoreRegistry.get(LocalPlayer.class).getCharacterEntity();
+                            character.send(new QueueSmithingOrderRequest(station, orderProcess.getSelection(), count, parseInt(orderPriority, 0)));
+                        }
+                    }
+                });
+        cancelOrderButton.subscribe(
+                new ActivateEventListener() {
+                    @Override
+                    public void onActivated(UIWidget widget) {
+                        if (orderProcess.getSelection() != null) {
+                            EntityRef character = CoreRegistry.get(LocalPlayer.class).getCharacterEntity();
+                            character.send(new QueueSmithingOrderRequest(station, orderProcess.getSelection(), 0, 0));
+                        }
+                    }
+                });
+
+        orderQueue.bindText(
+                new Binding<String>() {
+                    @Override
+                    public String get() {
+                        return getOrderQueueText(station.getComponent(SmithingOrderQueueComponent.class));
+                    }
+
+                    @Override
+                    public void set(String value) {
+                    }
+                });
+
         craftingProgress.bindVisible(
                 new Binding<Boolean>() {
                     @Override
@@ -174,19 +264,20 @@ public class MetalStationWindow extends BaseInteractionScreen {
         }
         super.update(delta);
 
-        WorkstationRegistry craftingRegistry = CoreRegistry.get(WorkstationRegistry.class);
-
-        matchingUpgradeRecipe = getMatchingUpgradeRecipe(craftingRegistry);
-        if (!isSame(matchingUpgradeRecipe, upgradeRecipeDisplayed)) {
-            if (upgradeRecipeDisplayed != null) {
-                upgradeButton.setVisible(false);
-            }
-            if (matchingUpgradeRecipe != null) {
-                upgradeButton.setVisible(true);
-            }
-            upgradeRecipeDisplayed = matchingUpgradeRecipe;
+        // Only look for a matching upgrade recipe again when the contents of the station changed
+        if (inventorySnapshot.update(workstation)) {
+            matchingUpgradeRecipe = getMatchingUpgradeRecipe();
+        }
+        if (!isSame(matchingUpgradeRecipe, predictedUpgradeRecipe)) {
+            upgradePrediction.confirm();
         }
 
+        // If the server did not accept the upgrade in time the button shows up again
+        long gameTime = CoreRegistry.get(Time.class).getGameTimeInMs();
+        boolean showUpgrade = matchingUpgradeRecipe != null && !upgradePrediction.isPending(gameTime);
+        if (showUpgrade != upgradeButton.isVisible()) {
+            upgradeButton.setVisible(showUpgrade);
+        }
     }
 
     private boolean isSame(String recipe1, String recipe2) {
@@ -199,23 +290,66 @@ public class MetalStationWindow extends BaseInteractionScreen {
         return recipe1.equals(recipe2);
     }
 
-    private String getMatchingUpgradeRecipe(WorkstationRegistry craftingRegistry) {
+    private List<CraftingWorkstationUpgradeProcess> getUpgradeProcesses(WorkstationRegistry craftingRegistry) {
+        List<CraftingWorkstationUpgradeProcess> result = new ArrayList<>();
         for (WorkstationProcess workstationProcess : craftingRegistry.getWorkstationProcesses(Collections.singleton(CraftingStationUpgradeRecipeComponent.PROCESS_TYPE))) {
             if (workstationProcess instanceof CraftingWorkstationUpgradeProcess) {
                 CraftingWorkstationUpgradeProcess upgradeProcess = (CraftingWorkstationUpgradeProcess) workstationProcess;
 
-                // Before checking if the workstation has the necessary items in the upgrade slot, check to see if this
-                // upgrade process actually pertains to this workstation type.
+                // Only keep the upgrade processes that actually pertain to this workstation type.
                 if (upgradeProcess.getWorkstationType().equalsIgnoreCase(workstation.getParentPrefab().getName())) {
-                    UpgradeRecipe upgradeRecipe = upgradeProcess.getUpgradeRecipe();
-                    final UpgradeRecipe.UpgradeResult upgradeResult = upgradeRecipe.getMatchingUpgradeResult(workstation);
-
-                    if (upgradeResult != null) {
-                        return workstationProcess.getId();
-                    }
+                    result.add(upgradeProcess);
                 }
             }
         }
+        return result;
+    }
+
+    private List<String> getOrderProcesses(WorkstationRegistry craftingRegistry) {
+        List<String> result = new ArrayList<>();
+        WorkstationComponent workstationComponent = workstation.getComponent(WorkstationComponent.class);
+        if (workstationComponent == null) {
+            return result;
+        }
+
+        for (WorkstationProcess workstationProcess : craftingRegistry.getWorkstationProcesses(workstationComponent.supportedProcessTypes.keySet())) {
+            // Only crafting is queued, upgrades have their own button and the station runs its other processes on its own
+            if (Smithing.isSmithingProcess(workstationProcess.getProcessType())) {
+                result.add(workstationProcess.getId());
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private int parseInt(UIText text, int defaultValue) {
+        try {
+            return Integer.parseInt(text.getText().trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private String getOrderQueueText(SmithingOrderQueueComponent queue) {
+        if (queue == null || queue.orders.isEmpty()) {
+            return "No orders queued";
+        }
+        StringBuilder result = new StringBuilder("Queued:");
+        for (SmithingOrderQueueComponent.SmithingOrder order : queue.orders) {
+            result.append(String.format(" %d x %s (%d)", order.count, order.processId.substring(order.processId.indexOf(':') + 1), order.priority));
+        }
+        return result.toString();
+    }
+
+    private String getMatchingUpgradeRecipe() {
+        for (CraftingWorkstationUpgradeProcess upgradeProcess : upgradeProcesses) {
+            UpgradeRecipe upgradeRecipe = upgradeProcess.getUpgradeRecipe();
+            final UpgradeRecipe.UpgradeResult upgradeResult = upgradeRecipe.getMatchingUpgradeResult(workstation);
+
+            if (upgradeResult != null) {
+                return upgradeProcess.getId();
+            }
+        }
         return null;
     }
 
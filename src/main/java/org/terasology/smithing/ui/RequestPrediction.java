@@ -0,0 +1,63 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.ui;
+
+/*
+ * Tracks the locally predicted outcome of a request sent to the server, until the server either confirms it through
+ * a component update or fails to do so in time, in which case the prediction is rolled back
+ */
+final class RequestPrediction {
+    /** How long in milliseconds a prediction is kept without the server confirming it */
+    static final long CONFIRMATION_TIMEOUT = 5000;
+
+    private long requestTime;
+    private long predictedLength;
+    private boolean pending;
+
+    /*
+     * Starts predicting the outcome of a request that has just been sent
+     *
+     * @param  gameTime the game time in milliseconds at which the request was sent
+     * @param  length the predicted length in milliseconds of the process started by the request
+     */
+    void start(long gameTime, long length) {
+        requestTime = gameTime;
+        predictedLength = length;
+        pending = true;
+    }
+
+    /*
+     * Ends the prediction because the authoritative state has arrived
+     */
+    void confirm() {
+        pending = false;
+    }
+
+    /*
+     * Checks if the prediction should still be displayed, rolling it back if the server has not confirmed it in time
+     *
+     * @param  gameTime the current game time in milliseconds
+     *
+     * @return true if the prediction is still waiting for confirmation
+     */
+    boolean isPending(long gameTime) {
+        if (pending && gameTime > requestTime + CONFIRMATION_TIMEOUT) {
+            pending = false;
+        }
+        return pending;
+    }
+
+    /*
+     * Calculates the predicted progress of the process started by the request
+     *
+     * @param  gameTime the current game time in milliseconds
+     *
+     * @return the progress between 0 and 1
+     */
+    float getProgress(long gameTime) {
+        if (predictedLength <= 0) {
+            return 0f;
+        }
+        return Math.min(1f, 1f * (gameTime - requestTime) / predictedLength);
+    }
+}
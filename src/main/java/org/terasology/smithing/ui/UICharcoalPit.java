@@ -12,9 +12,13 @@ import org.terasology.module.inventory.ui.InventoryGrid;
 import org.terasology.nui.UIWidget;
 import org.terasology.nui.widgets.ActivateEventListener;
 import org.terasology.nui.widgets.UIButton;
+import org.terasology.nui.widgets.UILabel;
 import org.terasology.nui.widgets.UILoadBar;
 import org.terasology.smithing.component.CharcoalPitComponent;
+import org.terasology.smithing.component.CharcoalPitReservoirComponent;
 import org.terasology.smithing.event.ProduceCharcoalRequest;
+import org.terasology.smithing.event.WithdrawCharcoalPitFuelRequest;
+import org.terasology.smithing.system.CharcoalPitFuels;
 import org.terasology.smithing.system.CharcoalPitUtils;
 
 public class UICharcoalPit extends CoreScreenLayer {
@@ -22,7 +26,12 @@ public class UICharcoalPit extends CoreScreenLayer {
     private InventoryGrid input;
     private InventoryGrid output;
     private UIButton process;
+    private UIButton withdrawFuel;
     private UILoadBar burningProgress;
+    private UILabel reservoirContents;
+
+    private final RequestPrediction burnPrediction = new RequestPrediction();
+    private long burnStartBeforeRequest;
 
     @Override
     public void initialise() {
@@ -35,7 +44,9 @@ public class UICharcoalPit extends CoreScreenLayer {
         player.setMaxCellCount(30);
 
         process = find("process", UIButton.class);
+        withdrawFuel = find("withdrawFuel", UIButton.class);
         burningProgress = find("burningProgress", UILoadBar.class);
+        reservoirContents = find("reservoirContents", UILabel.class);
     }
 
     public void setCharcoalPit(final EntityRef entity) {
@@ -56,9 +67,29 @@ public class UICharcoalPit extends CoreScreenLayer {
                 new ActivateEventListener() {
                     @Override
                     public void onActivated(UIWidget widget) {
+                        // Only predict a burn the server will accept, it checks the same conditions
+                        long gameTime = CoreRegistry.get(Time.class).getGameTimeInMs();
+                        CharcoalPitUtils.FuelLoad load = CharcoalPitUtils.getBurnableFuelLoad(entity, gameTime);
+                        if (load == null) {
+                            return;
+                        }
+
+                        // Show the pit burning right away, the server will confirm it by updating the burn start time
+                        burnStartBeforeRequest = entity.getComponent(CharcoalPitComponent.class).burnStartWorldTime;
+                        burnPrediction.start(gameTime, load.getBurnLength());
                         entity.send(new ProduceCharcoalRequest());
                     }
                 });
+
+        withdrawFuel.setText("Take Fuel");
+        withdrawFuel.subscribe(
+                new ActivateEventListener() {
+                    @Override
+                    public void onActivated(UIWidget widget) {
+                        EntityRef character = CoreRegistry.get(LocalPlayer.class).getCharacterEntity();
+                        character.send(new WithdrawCharcoalPitFuelRequest(entity));
+                    }
+                });
     }
 
     @Override
@@ -72,26 +103,45 @@ public class UICharcoalPit extends CoreScreenLayer {
 
         long worldTime = CoreRegistry.get(Time.class).getGameTimeInMs();
 
+        CharcoalPitReservoirComponent reservoir = charcoalPitEntity.getComponent(CharcoalPitReservoirComponent.class);
+        withdrawFuel.setVisible(reservoir != null && reservoir.fuelValue > 0);
+        if (reservoir != null) {
+            reservoirContents.setVisible(true);
+            reservoirContents.setText(String.format("Logs: %d\nCharcoal: %d",
+                    reservoir.fuelValue / CharcoalPitFuels.LOG_FUEL_VALUE, reservoir.charcoalCount));
+        } else {
+            reservoirContents.setVisible(false);
+        }
+
         CharcoalPitComponent charcoalPit = charcoalPitEntity.getComponent(CharcoalPitComponent.class);
-        if (charcoalPit.burnFinishWorldTime > worldTime) {
+        if (charcoalPit.burnStartWorldTime != burnStartBeforeRequest) {
+            burnPrediction.confirm();
+        }
+
+        if (burnPrediction.isPending(worldTime)) {
+            // Waiting for the server to start burning the wood
+            showBurning(burnPrediction.getProgress(worldTime));
+        } else if (charcoalPit.burnFinishWorldTime > worldTime) {
             // It's burning wood now
-            input.setVisible(false);
-            process.setVisible(false);
-            output.setVisible(false);
-            burningProgress.setVisible(true);
-            burningProgress.setValue(1f * (worldTime - charcoalPit.burnStartWorldTime) / (charcoalPit.burnFinishWorldTime - charcoalPit.burnStartWorldTime));
+            showBurning(1f * (worldTime - charcoalPit.burnStartWorldTime) / (charcoalPit.burnFinishWorldTime - charcoalPit.burnStartWorldTime));
         } else {
             // It's not burning wood
             input.setVisible(true);
             output.setVisible(true);
             burningProgress.setVisible(false);
 
-            int logCount = CharcoalPitUtils.getLogCount(charcoalPitEntity);
-
-            process.setVisible(CharcoalPitUtils.canBurnCharcoal(logCount, charcoalPitEntity));
+            process.setVisible(CharcoalPitUtils.getBurnableFuelLoad(charcoalPitEntity, worldTime) != null);
         }
     }
 
+    private void showBurning(float progress) {
+        input.setVisible(false);
+        process.setVisible(false);
+        output.setVisible(false);
+        burningProgress.setVisible(true);
+        burningProgress.setValue(progress);
+    }
+
     @Override
     public boolean isModal() {
         return false;
@@ -0,0 +1,106 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.smithing.system;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CharcoalPitUtilsTest {
+    private static final int LOG = CharcoalPitFuels.getFuelIndex("WorkstationCrafting:wood");
+    private static final int PLANK = CharcoalPitFuels.getFuelIndex("WorkstationCrafting:plank");
+    private static final int STICK = CharcoalPitFuels.getFuelIndex("WorkstationCrafting:stick");
+
+    @Test
+    public void testYieldGrowsWithTheSquareOfTheLoad() {
+        assertEquals(4, CharcoalPitUtils.getResultCharcoalCount(8, 16));
+        assertEquals(16, CharcoalPitUtils.getResultCharcoalCount(16, 16));
+        assertEquals(144, CharcoalPitUtils.getResultCharcoalCount(144, 144));
+    }
+
+    @Test
+    public void testFuelYieldMatchesLogYieldForWholeLogs() {
+        for (int logCount = 8; logCount <= 16; logCount++) {
+            assertEquals(CharcoalPitUtils.getResultCharcoalCount(logCount, 16),
+                    CharcoalPitUtils.getResultCharcoalCountForFuel((long) logCount * CharcoalPitFuels.LOG_FUEL_VALUE, 16));
+        }
+    }
+
+    @Test
+    public void testFractionalFuelIsNotLost() {
+        CharcoalPitUtils.FuelLoad load = new CharcoalPitUtils.FuelLoad();
+        load.add(LOG, 8);
+        load.add(PLANK, 3);
+
+        assertEquals(8, load.getLogCount());
+        assertEquals(8750, load.getFuelValue());
+        // 8.75 logs yield more than the 8 whole logs alone
+        assertEquals(5, CharcoalPitUtils.getResultCharcoalCountForFuel(load.getFuelValue(), 16));
+        assertEquals(4, CharcoalPitUtils.getResultCharcoalCount(load.getLogCount(), 16));
+    }
+
+    @Test
+    public void testCanBurnCharcoal() {
+        assertFalse(CharcoalPitUtils.canBurnCharcoal(7, 8, 16, 99));
+        assertTrue(CharcoalPitUtils.canBurnCharcoal(8, 8, 16, 99));
+        assertTrue(CharcoalPitUtils.canBurnCharcoal(16, 8, 16, 99));
+        assertFalse(CharcoalPitUtils.canBurnCharcoal(17, 8, 16, 99));
+        // The yield has to fit into the output
+        assertTrue(CharcoalPitUtils.canBurnCharcoal(16, 8, 16, 16));
+        assertFalse(CharcoalPitUtils.canBurnCharcoal(16, 8, 16, 15));
+    }
+
+    @Test
+    public void testCanBurnFuel() {
+        assertFalse(CharcoalPitUtils.canBurnFuel(7875, 8, 16, 99));
+        assertTrue(CharcoalPitUtils.canBurnFuel(8000, 8, 16, 99));
+        assertTrue(CharcoalPitUtils.canBurnFuel(16000, 8, 16, 99));
+        assertFalse(CharcoalPitUtils.canBurnFuel(16125, 8, 16, 99));
+    }
+
+    @Test
+    public void testBurnLengthIsWeightedByFuelValue() {
+        CharcoalPitUtils.FuelLoad load = new CharcoalPitUtils.FuelLoad();
+        assertEquals(CharcoalPitUtils.BURN_LENGTH, load.getBurnLength());
+
+        load.add(LOG, 1);
+        load.add(PLANK, 4);
+        assertEquals(2000, load.getFuelValue());
+        assertEquals((CharcoalPitUtils.BURN_LENGTH + CharcoalPitFuels.getBurnLength(PLANK)) / 2, load.getBurnLength());
+    }
+
+    @Test
+    public void testUnknownFuel() {
+        assertEquals(-1, CharcoalPitFuels.getFuelIndex("CoreAssets:Dirt"));
+        assertEquals(-1, CharcoalPitFuels.getFuelIndex(null));
+        assertEquals(LOG, CharcoalPitFuels.getFuelIndex("workstationcrafting:WOOD"));
+    }
+
+    @Test
+    public void testMixedFuelYieldsMoreThanItsLogs() {
+        CharcoalPitUtils.FuelLoad logsOnly = new CharcoalPitUtils.FuelLoad();
+        logsOnly.add(LOG, 8);
+        CharcoalPitUtils.FuelLoad mixed = new CharcoalPitUtils.FuelLoad();
+        mixed.add(LOG, 8);
+        mixed.add(PLANK, 3);
+        mixed.add(STICK, 2);
+
+        assertTrue(CharcoalPitUtils.getResultCharcoalCountForFuel(mixed.getFuelValue(), 16)
+                > CharcoalPitUtils.getResultCharcoalCountForFuel(logsOnly.getFuelValue(), 16));
+        // Planks and sticks burn faster than logs, so they shorten the burn
+        assertTrue(mixed.getBurnLength() < logsOnly.getBurnLength());
+    }
+
+    @Test
+    public void testLargePitYield() {
+        // 5x5x5 pit with 27 blocks of air, burning its minimum and maximum load
+        int minimumLogCount = CharcoalPitUtils.MINIMUM_LOGS_PER_AIR_BLOCK * 27;
+        int maximumLogCount = CharcoalPitUtils.MAXIMUM_LOGS_PER_AIR_BLOCK * 27;
+
+        assertTrue(CharcoalPitUtils.canBurnCharcoal(minimumLogCount, minimumLogCount, maximumLogCount, Integer.MAX_VALUE));
+        assertEquals(4 * CharcoalPitUtils.getResultCharcoalCount(minimumLogCount, maximumLogCount),
+                CharcoalPitUtils.getResultCharcoalCount(maximumLogCount, maximumLogCount));
+    }
+}